@@ -0,0 +1,62 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int habitCount;
+
+    private ObjectMapper   objectMapper;
+    private NdjsonWriter   ndjsonWriter;
+    private List<HabitDTO> habits;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ndjsonWriter = new NdjsonWriter(objectMapper);
+        habits = IntStream.range(0, habitCount)
+                          .mapToObj(index -> new HabitDTO(
+                                  "Habit_" + index,
+                                  HabitFrequency.values()[index % HabitFrequency.values().length],
+                                  LocalDate.now(),
+                                  LocalDate.now().plusYears(1),
+                                  index % 2 == 0
+                          ))
+                          .toList();
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), habits);
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), new CursorPageDTO<>(habits, null));
+    }
+
+    @Benchmark
+    public void serializeNdjson() throws IOException {
+        ndjsonWriter.<HabitDTO>stream(consumer -> habits.forEach(consumer))
+                    .writeTo(OutputStream.nullOutputStream());
+    }
+}
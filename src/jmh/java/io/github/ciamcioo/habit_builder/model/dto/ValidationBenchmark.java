@@ -0,0 +1,65 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator        validator;
+
+    private HabitDTO validHabitDTO;
+    private HabitDTO invalidHabitDTO;
+    private UserDTO  validUserDTO;
+    private UserDTO  invalidUserDTO;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validHabitDTO = new HabitDTO("Morning run", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), true);
+        invalidHabitDTO = new HabitDTO("", null, LocalDate.now().minusDays(1), LocalDate.now().minusDays(1), true);
+        validUserDTO = new UserDTO("fooBar@gmail.com", "FooBar", "Foo", "Bar", 27);
+        invalidUserDTO = new UserDTO("not an email", "", "F", "B", -1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<HabitDTO>> validHabit() {
+        return validator.validate(validHabitDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<HabitDTO>> invalidHabit() {
+        return validator.validate(invalidHabitDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> validUser() {
+        return validator.validate(validUserDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> invalidUser() {
+        return validator.validate(invalidUserDTO);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Batches of habit rows are appended to a table that grows during the iteration, so the cost of maintaining
+// the primary key index under random (version 4) and time-ordered (version 7) keys shows up in the throughput
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    public enum KeyOrder {
+        RANDOM(UUID::randomUUID),
+        TIME_ORDERED(UuidV7Generator::next);
+
+        private final Supplier<UUID> generator;
+
+        KeyOrder(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private KeyOrder keyOrder;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert_benchmark");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS habit");
+            statement.execute("CREATE TABLE habit(id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, habit_frequency VARCHAR(255) NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO habit(id, name, habit_frequency) VALUES (?, ?, 'DAILY')");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int row = 0; row < BATCH_SIZE; row++) {
+            insert.setObject(1, keyOrder.generator.get());
+            insert.setString(2, "habit-" + sequence++);
+            insert.addBatch();
+        }
+
+        int[] inserted = insert.executeBatch();
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public UUID generateKey() {
+        return keyOrder.generator.get();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import jakarta.json.Json;
+import jakarta.json.JsonMergePatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MergePatchBenchmark {
+
+    public enum PatchShape {
+        SINGLE_FIELD,
+        ALL_FIELDS,
+        WITH_IGNORED_FIELDS
+    }
+
+    @Param({"SINGLE_FIELD", "ALL_FIELDS", "WITH_IGNORED_FIELDS"})
+    private PatchShape patchShape;
+
+    private MergePatchHelper mergePatchHelper;
+    private JsonMergePatch   patch;
+    private Habit            habit;
+
+    @Setup
+    public void setup() {
+        mergePatchHelper = new MergePatchHelper(new ObjectMapper());
+        habit = new Habit(UUID.randomUUID(), "Morning run", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), true);
+        patch = Json.createMergePatch(switch (patchShape) {
+            case SINGLE_FIELD -> Json.createObjectBuilder()
+                                     .add("reminder", false)
+                                     .build();
+            case ALL_FIELDS -> Json.createObjectBuilder()
+                                   .add("name", "Evening run")
+                                   .add("frequency", "WEEKLY")
+                                   .add("startDate", LocalDate.now().plusDays(1).toString())
+                                   .add("endDate", LocalDate.now().plusMonths(6).toString())
+                                   .add("reminder", false)
+                                   .build();
+            case WITH_IGNORED_FIELDS -> Json.createObjectBuilder()
+                                            .add("uuid", UUID.randomUUID().toString())
+                                            .add("frequency", "MONTHLY")
+                                            .add("unknownField", "value")
+                                            .build();
+        });
+    }
+
+    @Benchmark
+    public Habit mergePatch() {
+        return mergePatchHelper.mergePatch(patch, habit, Habit.class);
+    }
+}
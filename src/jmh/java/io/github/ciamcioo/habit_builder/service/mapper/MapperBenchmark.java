@@ -0,0 +1,57 @@
+package io.github.ciamcioo.habit_builder.service.mapper;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final HabitMapper habitMapper = new HabitMapperImpl();
+    private final UserMapper  userMapper  = new UserMapperImpl();
+
+    private Habit    habit;
+    private HabitDTO habitDTO;
+    private User     user;
+    private UserDTO  userDTO;
+
+    @Setup
+    public void setup() {
+        habit = new Habit(UUID.randomUUID(), "Morning run", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), true);
+        habitDTO = new HabitDTO("Morning run", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), true);
+        user = new User(UUID.randomUUID(), "fooBar@gmail.com", "FooBar", "Foo", "Bar", 27);
+        userDTO = new UserDTO("fooBar@gmail.com", "FooBar", "Foo", "Bar", 27);
+    }
+
+    @Benchmark
+    public HabitDTO habitToDTO() {
+        return habitMapper.toDTO(habit);
+    }
+
+    @Benchmark
+    public Habit habitToEntity() {
+        return habitMapper.toEntity(habitDTO);
+    }
+
+    @Benchmark
+    public UserDTO userToDTO() {
+        return userMapper.toDTO(user);
+    }
+
+    @Benchmark
+    public User userToEntity() {
+        return userMapper.toEntity(userDTO);
+    }
+}
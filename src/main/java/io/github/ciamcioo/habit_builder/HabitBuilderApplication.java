@@ -2,8 +2,10 @@ package io.github.ciamcioo.habit_builder;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class HabitBuilderApplication {
 
 	public static void main(String[] args) {
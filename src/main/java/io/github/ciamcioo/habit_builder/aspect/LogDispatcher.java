@@ -0,0 +1,68 @@
+package io.github.ciamcioo.habit_builder.aspect;
+
+import io.github.ciamcioo.habit_builder.config.LoggingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hands log events over to a single background thread, events are dropped instead of blocking callers when the queue is full
+@Component
+class LogDispatcher implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(LogDispatcher.class);
+    private static final long DROPPED_EVENTS_REPORT_INTERVAL = 10_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    LogDispatcher(LoggingProperties loggingProperties) {
+        this.executor = loggingProperties.async() ? createExecutor(loggingProperties.queueCapacity()) : null;
+    }
+
+    void dispatch(Runnable logEvent) {
+        if (executor == null) {
+            logEvent.run();
+            return;
+        }
+
+        executor.execute(logEvent);
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private ThreadPoolExecutor createExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("method-logging").daemon().factory(),
+                (logEvent, executor) -> onDropped()
+        );
+    }
+
+    private void onDropped() {
+        long dropped = droppedEvents.incrementAndGet();
+
+        if (dropped == 1 || dropped % DROPPED_EVENTS_REPORT_INTERVAL == 0) {
+            log.warn("Method logging queue is full, {} log events dropped so far", dropped);
+        }
+    }
+}
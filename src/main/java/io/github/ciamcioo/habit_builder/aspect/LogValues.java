@@ -0,0 +1,90 @@
+package io.github.ciamcioo.habit_builder.aspect;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// Renders logged values on the calling thread once an event is sampled, so the background logger never touches
+// objects that may change or need an open session afterwards. Collections and arrays are logged by their size
+final class LogValues {
+    private static final String TRUNCATION_MARK = "...";
+
+    // Records wrapping collections (pages, import reports) are rendered per component so their content is never formatted
+    private static final ClassValue<RecordComponent[]> SUMMARIZED_RECORD_COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            boolean wrapsContainer = Arrays.stream(components)
+                                           .map(RecordComponent::getType)
+                                           .anyMatch(LogValues::isContainer);
+            return wrapsContainer ? components : null;
+        }
+    };
+
+    private LogValues() {
+    }
+
+    static String renderArguments(Object[] arguments, int maxLength) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object argument : arguments) {
+            joiner.add(render(argument, maxLength));
+        }
+        return joiner.toString();
+    }
+
+    static String render(Object value, int maxLength) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof ResponseEntity<?> responseEntity) {
+            return "ResponseEntity[status=" + responseEntity.getStatusCode() + ", body=" + render(responseEntity.getBody(), maxLength) + "]";
+        }
+        if (value instanceof HttpEntity<?> httpEntity) {
+            return "HttpEntity[body=" + render(httpEntity.getBody(), maxLength) + "]";
+        }
+        if (value instanceof Record record && SUMMARIZED_RECORD_COMPONENTS.get(record.getClass()) != null) {
+            return renderRecord(record, SUMMARIZED_RECORD_COMPONENTS.get(record.getClass()), maxLength);
+        }
+
+        return truncate(String.valueOf(value), maxLength);
+    }
+
+    private static String renderRecord(Record record, RecordComponent[] components, int maxLength) {
+        StringJoiner joiner = new StringJoiner(", ", record.getClass().getSimpleName() + "[", "]");
+
+        for (RecordComponent component : components) {
+            try {
+                joiner.add(component.getName() + "=" + render(component.getAccessor().invoke(record), maxLength));
+            } catch (ReflectiveOperationException e) {
+                joiner.add(component.getName() + "=?");
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray();
+    }
+
+    private static String truncate(String rendered, int maxLength) {
+        if (rendered.length() <= maxLength) {
+            return rendered;
+        }
+        return rendered.substring(0, maxLength) + TRUNCATION_MARK;
+    }
+}
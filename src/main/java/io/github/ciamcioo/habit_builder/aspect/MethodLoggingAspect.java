@@ -1,47 +1,129 @@
 package io.github.ciamcioo.habit_builder.aspect;
 
-import org.aspectj.lang.JoinPoint;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableReturnLogging;
+import io.github.ciamcioo.habit_builder.config.LoggingProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Component
 @Aspect
 public class MethodLoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(MethodLoggingAspect.class);
 
+    private final LogDispatcher logDispatcher;
+    private final LoggingProperties loggingProperties;
+
+    // Annotations are resolved once per method instead of on every call
+    private final ConcurrentMap<Method, LoggedEvents> loggedEvents = new ConcurrentHashMap<>();
 
-    @Before("@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging) || " +
-            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging)")
-    public void logMethodCall(JoinPoint joinPoint) {
-        log.info("Event: {}, Method: {}, Arguments: {}",
-                joinPoint.getKind(),
-                joinPoint.getSignature().toShortString(),
-                joinPoint.getArgs()
-        );
+    @Autowired
+    MethodLoggingAspect(LogDispatcher logDispatcher, LoggingProperties loggingProperties) {
+        this.logDispatcher = logDispatcher;
+        this.loggingProperties = loggingProperties;
     }
 
-    @AfterReturning(value = "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableReturnLogging) ||" +
-                    "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging)",
-                    returning="returnValue")
-    public void logMethodReturn(JoinPoint joinPoint, Object returnValue) {
-        log.info("Event: {}, Method: {}, Returned object hashcode: {}",
-                "Method return",
-                joinPoint.getSignature().toShortString(),
-                returnValue.hashCode()
-        );
 
+    // One sample is drawn per invocation and compared with every rate, so a sampled return or exception comes with its call.
+    // Values are rendered here, on the calling thread, and only the resulting strings are handed over to the dispatcher
+    @Around("@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging) || " +
+            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging) || " +
+            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableReturnLogging) || " +
+            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging)")
+    public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        LoggedEvents events = resolveLoggedEvents(joinPoint);
+        double sample = ThreadLocalRandom.current().nextDouble();
+
+        if (events.call() && log.isInfoEnabled() && isSampled(sample, loggingProperties.callSampleRate())) {
+            logMethodCall(joinPoint);
+        }
+
+        Object returnValue;
+        try {
+            returnValue = joinPoint.proceed();
+        } catch (Throwable exception) {
+            if (events.exception() && log.isWarnEnabled() && isSampled(sample, loggingProperties.exceptionSampleRate())) {
+                logException(joinPoint, exception);
+            }
+            throw exception;
+        }
+
+        if (events.returned() && log.isInfoEnabled() && isSampled(sample, loggingProperties.returnSampleRate())) {
+            logMethodReturn(joinPoint, returnValue);
+        }
+        return returnValue;
+    }
+
+    private void logMethodCall(ProceedingJoinPoint joinPoint) {
+        String kind = joinPoint.getKind();
+        String signature = joinPoint.getSignature().toShortString();
+        String arguments = LogValues.renderArguments(joinPoint.getArgs(), loggingProperties.maxValueLength());
+
+        logDispatcher.dispatch(() -> log.info("Event: {}, Method: {}, Arguments: {}",
+                kind,
+                signature,
+                arguments
+        ));
+    }
+
+    private void logMethodReturn(ProceedingJoinPoint joinPoint, Object returnValue) {
+        String signature = joinPoint.getSignature().toShortString();
+        String returned = LogValues.render(returnValue, loggingProperties.maxValueLength());
+
+        logDispatcher.dispatch(() -> log.info("Event: {}, Method: {}, Returned: {}",
+                "Method return",
+                signature,
+                returned
+        ));
     }
 
-    @AfterThrowing(value = "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging)", throwing = "exception")
-    public void logException(JoinPoint joinPoint, Throwable exception) {
-        log.warn("Event: {}, Method: {}, Exception type: {}, Exception message: {}",
+    private void logException(ProceedingJoinPoint joinPoint, Throwable exception) {
+        String joinPointDescription = joinPoint.toShortString();
+        String cause = String.valueOf(exception.getCause());
+        String message = exception.getMessage();
+
+        logDispatcher.dispatch(() -> log.warn("Event: {}, Method: {}, Exception type: {}, Exception message: {}",
                  "Exception thrown",
-                 joinPoint.toShortString(),
-                 exception.getCause(),
-                 exception.getMessage()
-        );
+                 joinPointDescription,
+                 cause,
+                 message
+        ));
+    }
+
+    private LoggedEvents resolveLoggedEvents(ProceedingJoinPoint joinPoint) {
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                                                       AopProxyUtils.ultimateTargetClass(joinPoint.getTarget()));
+
+        return loggedEvents.computeIfAbsent(method, targetMethod -> {
+            boolean methodLogging = targetMethod.isAnnotationPresent(EnableMethodLogging.class);
+
+            return new LoggedEvents(
+                    methodLogging || targetMethod.isAnnotationPresent(EnableMethodCallLogging.class),
+                    methodLogging || targetMethod.isAnnotationPresent(EnableReturnLogging.class),
+                    targetMethod.isAnnotationPresent(EnableExceptionLogging.class)
+            );
+        });
+    }
+
+    private static boolean isSampled(double sample, double sampleRate) {
+        return sampleRate >= 1.0 || sample < sampleRate;
+    }
+
+    private record LoggedEvents(boolean call, boolean returned, boolean exception) {
     }
 }
@@ -0,0 +1,69 @@
+package io.github.ciamcioo.habit_builder.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Aspect
+public class MethodTimingAspect {
+    public static final String TIMER_NAME      = "method.execution";
+    public static final String SUCCESS_OUTCOME = "success";
+
+    private static final double[] PUBLISHED_PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    // Timers are registered once per method and outcome instead of rebuilding tags on every call
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    @Around("@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodTiming) || " +
+            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging) || " +
+            "@annotation(io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging)")
+    public Object timeMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        String outcome = SUCCESS_OUTCOME;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable exception) {
+            outcome = exception.getClass().getSimpleName();
+            throw exception;
+        } finally {
+            resolveTimer(method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer resolveTimer(Method method, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(method, outcome), key ->
+                Timer.builder(TIMER_NAME)
+                     .description("Execution time of annotated controller and service methods")
+                     .tag("class", key.method().getDeclaringClass().getSimpleName())
+                     .tag("method", key.method().getName())
+                     .tag("outcome", key.outcome())
+                     .publishPercentiles(PUBLISHED_PERCENTILES)
+                     .publishPercentileHistogram()
+                     .register(meterRegistry)
+        );
+    }
+
+    private record TimerKey(Method method, String outcome) {
+    }
+}
@@ -9,5 +9,6 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @EnableReturnLogging
 @EnableMethodCallLogging
+@EnableMethodTiming
 public @interface EnableMethodLogging {
 }
@@ -0,0 +1,42 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+    public static final String HABITS_CACHE = "habits";
+    public static final String USERS_CACHE  = "users";
+    public static final String STATS_CACHE  = "stats";
+
+    // Stats are never evicted by writes, a short TTL bounds how stale the dashboard can get
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> statsCacheCustomizer(StatsProperties statsProperties) {
+        return cacheManager -> cacheManager.registerCustomCache(
+                STATS_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(statsProperties.cacheTtl())
+                        .maximumSize(1)
+                        .recordStats()
+                        .build()
+        );
+    }
+
+    // Puts and evictions inside a transaction wait for the commit, a concurrent read can't cache the old row again before it is gone
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager cacheManager ? new TransactionAwareCacheManagerProxy(cacheManager) : bean;
+            }
+        };
+    }
+}
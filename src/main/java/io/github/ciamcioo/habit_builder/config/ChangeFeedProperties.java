@@ -0,0 +1,26 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "habit-builder.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("1000") int historySize,
+        @DefaultValue("256") int subscriberBufferSize,
+        @DefaultValue("30m") Duration subscriptionTimeout
+) {
+
+    public ChangeFeedProperties {
+        if (historySize < 1) {
+            throw new IllegalArgumentException("Change feed history size must be a positive number");
+        }
+        if (subscriberBufferSize < 1) {
+            throw new IllegalArgumentException("Change feed subscriber buffer size must be a positive number");
+        }
+        if (subscriptionTimeout.isNegative() || subscriptionTimeout.isZero()) {
+            throw new IllegalArgumentException("Change feed subscription timeout must be a positive duration");
+        }
+    }
+}
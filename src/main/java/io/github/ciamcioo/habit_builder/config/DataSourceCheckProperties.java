@@ -0,0 +1,20 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.datasource-check")
+public record DataSourceCheckProperties(
+        @DefaultValue("50") int minBatchSize,
+        @DefaultValue("50") int maxPoolSize
+) {
+
+    public DataSourceCheckProperties {
+        if (minBatchSize < 1) {
+            throw new IllegalArgumentException("Minimum batch size must be a positive number");
+        }
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("Maximum connection pool size must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "habit-builder.export")
+public record ExportProperties(
+        @DefaultValue("500") int fetchSize,
+        @DefaultValue("export") Path directory,
+        @DefaultValue("NDJSON") ExportFormat format,
+        @DefaultValue("5m") Duration responseTimeout
+) {
+
+    public ExportProperties {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Export fetch size must be a positive number");
+        }
+        if (directory == null || format == null) {
+            throw new IllegalArgumentException("Export directory and format must be specified");
+        }
+        if (responseTimeout.isNegative() || responseTimeout.isZero()) {
+            throw new IllegalArgumentException("Export response timeout must be a positive duration");
+        }
+    }
+}
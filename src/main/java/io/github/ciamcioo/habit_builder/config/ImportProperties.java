@@ -0,0 +1,16 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.import")
+public record ImportProperties(
+        @DefaultValue("500") int chunkSize
+) {
+
+    public ImportProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.logging")
+public record LoggingProperties(
+        @DefaultValue("true") boolean async,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("1.0") double callSampleRate,
+        @DefaultValue("1.0") double returnSampleRate,
+        @DefaultValue("1.0") double exceptionSampleRate,
+        @DefaultValue("200") int maxValueLength
+) {
+
+    public LoggingProperties {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Logging queue capacity must be a positive number");
+        }
+        if (maxValueLength < 1) {
+            throw new IllegalArgumentException("Maximum logged value length must be a positive number");
+        }
+        validateSampleRate(callSampleRate);
+        validateSampleRate(returnSampleRate);
+        validateSampleRate(exceptionSampleRate);
+    }
+
+    private static void validateSampleRate(double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("Logging sample rate must be between 0.0 and 1.0");
+        }
+    }
+}
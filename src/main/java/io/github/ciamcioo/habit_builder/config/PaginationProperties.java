@@ -0,0 +1,23 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.pagination")
+public record PaginationProperties(
+        @DefaultValue("50")  int defaultPageSize,
+        @DefaultValue("500") int maxPageSize
+) {
+
+    public int resolvePageSize(Integer requestedPageSize) {
+        if (requestedPageSize == null) {
+            return defaultPageSize;
+        }
+
+        if (requestedPageSize < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+
+        return Math.min(requestedPageSize, maxPageSize);
+    }
+}
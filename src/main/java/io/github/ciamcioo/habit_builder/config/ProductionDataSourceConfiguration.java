@@ -0,0 +1,82 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// The prod profile only works as tuned when pool, driver and Hibernate settings agree, so the effective values are checked once on startup
+@Configuration
+@Profile("prod")
+public class ProductionDataSourceConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(ProductionDataSourceConfiguration.class);
+
+    @Bean
+    SmartInitializingSingleton dataSourceSettingsCheck(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                                       DataSourceCheckProperties properties) {
+        return () -> {
+            if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+                return;
+            }
+            log.info(checkSettings(hikariDataSource, entityManagerFactory.getProperties(), properties));
+        };
+    }
+
+    static String checkSettings(HikariDataSource dataSource, Map<String, Object> jpaProperties, DataSourceCheckProperties properties) {
+        Properties driverProperties = dataSource.getDataSourceProperties();
+        int poolSize = dataSource.getMaximumPoolSize();
+        int batchSize = intSetting(jpaProperties, AvailableSettings.STATEMENT_BATCH_SIZE);
+        int fetchSize = intSetting(jpaProperties, AvailableSettings.STATEMENT_FETCH_SIZE);
+        boolean showSql = Boolean.parseBoolean(String.valueOf(jpaProperties.get(AvailableSettings.SHOW_SQL)));
+
+        List<String> problems = new ArrayList<>();
+        if (poolSize > properties.maxPoolSize()) {
+            problems.add("connection pool size " + poolSize + " exceeds the limit of " + properties.maxPoolSize());
+        }
+        if (batchSize < properties.minBatchSize()) {
+            problems.add("hibernate.jdbc.batch_size " + batchSize + " is lower than " + properties.minBatchSize());
+        }
+        if (!isEnabled(driverProperties, "rewriteBatchedStatements")) {
+            problems.add("rewriteBatchedStatements is disabled, batched inserts would be sent one statement at a time");
+        }
+        if (!isEnabled(driverProperties, "cachePrepStmts")) {
+            problems.add("cachePrepStmts is disabled, every statement would be prepared again");
+        }
+        if (showSql) {
+            problems.add("spring.jpa.show-sql is enabled");
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Production datasource settings are not tuned: " + String.join(", ", problems));
+        }
+
+        return String.format("Production datasource %s: pool size %d (min idle %d, recommended %d), connection timeout %s, max lifetime %s, " +
+                             "batch size %d, fetch size %d, rewriteBatchedStatements %s, prepared statement cache %s x %s, server prepared statements %s",
+                             dataSource.getPoolName(), poolSize, dataSource.getMinimumIdle(), VirtualThreadsConfiguration.recommendedPoolSize(),
+                             Duration.ofMillis(dataSource.getConnectionTimeout()), Duration.ofMillis(dataSource.getMaxLifetime()),
+                             batchSize, fetchSize, driverProperties.getProperty("rewriteBatchedStatements"),
+                             driverProperties.getProperty("prepStmtCacheSize"), driverProperties.getProperty("prepStmtCacheSqlLimit"),
+                             driverProperties.getProperty("useServerPrepStmts"));
+    }
+
+    private static int intSetting(Map<String, Object> jpaProperties, String name) {
+        Object value = jpaProperties.get(name);
+        return value == null ? 0 : Integer.parseInt(value.toString().trim());
+    }
+
+    private static boolean isEnabled(Properties driverProperties, String name) {
+        return Boolean.parseBoolean(driverProperties.getProperty(name));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.reactive")
+public record ReactiveProperties(
+        @DefaultValue("8081") int port,
+        @DefaultValue("4") int eventLoopThreads,
+        @DefaultValue("r2dbc:h2:mem:///habitdb") String r2dbcUrl,
+        String username,
+        String password,
+        @DefaultValue("10") int maxPoolSize
+) {
+
+    public ReactiveProperties {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Reactive server port must be between 0 and 65535");
+        }
+        if (eventLoopThreads < 1) {
+            throw new IllegalArgumentException("Number of event loop threads must be a positive number");
+        }
+        if (r2dbcUrl == null || r2dbcUrl.isBlank()) {
+            throw new IllegalArgumentException("R2DBC url cannot be blank");
+        }
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("Maximum connection pool size must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.resources.LoopResources;
+
+// The reactive read API runs on its own Netty server next to the servlet container, the MVC endpoints stay untouched
+@Configuration
+@Profile("reactive")
+public class ReactiveReadConfiguration implements DisposableBean {
+
+    // Kept out of the context on purpose, DataSourceAutoConfiguration backs off as soon as any ConnectionFactory bean exists
+    private volatile ConnectionPool connectionPool;
+
+    @Bean
+    DatabaseClient reactiveDatabaseClient(ReactiveProperties properties) {
+        connectionPool = createConnectionPool(properties);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    LoopResources reactiveLoopResources(ReactiveProperties properties) {
+        return LoopResources.create("reactive-read", properties.eventLoopThreads(), true);
+    }
+
+    @Bean
+    ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> reactiveReadRoutes, ObjectMapper objectMapper,
+                                          LoopResources reactiveLoopResources, ReactiveProperties properties) {
+        return new ReactiveReadServer(reactiveReadRoutes, objectMapper, reactiveLoopResources, properties.port());
+    }
+
+    @Override
+    public void destroy() {
+        ConnectionPool pool = connectionPool;
+
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    private ConnectionPool createConnectionPool(ReactiveProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.r2dbcUrl()).mutate();
+
+        if (properties.username() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (properties.password() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+
+        return new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                                           .maxSize(properties.maxPoolSize())
+                                           .build()
+        );
+    }
+}
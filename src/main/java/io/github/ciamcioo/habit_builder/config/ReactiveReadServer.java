@@ -0,0 +1,71 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+public class ReactiveReadServer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final HttpHandler httpHandler;
+    private final LoopResources loopResources;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(RouterFunction<ServerResponse> routes, ObjectMapper objectMapper, LoopResources loopResources, int port) {
+        // Same ObjectMapper as the MVC endpoints, so both APIs serialize the DTOs identically
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                                                        .codecs(codecs -> {
+                                                            codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                                                            codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                                                        })
+                                                        .build();
+        this.httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+        this.loopResources = loopResources;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                           .port(port)
+                           .runOn(loopResources)
+                           .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                           .bindNow();
+
+        log.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer runningServer = server;
+
+        if (runningServer != null) {
+            runningServer.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        DisposableServer runningServer = server;
+        return runningServer != null ? runningServer.port() : port;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalTime;
+
+@ConfigurationProperties(prefix = "habit-builder.reminders")
+public record ReminderProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("09:00") LocalTime timeOfDay,
+        @DefaultValue("1000") int batchSize
+) {
+
+    public ReminderProperties {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Reminder batch size must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "habit-builder.stats")
+public record StatsProperties(
+        @DefaultValue("DATABASE") Aggregation aggregation,
+        @DefaultValue("30s") Duration cacheTtl
+) {
+
+    public StatsProperties {
+        if (cacheTtl.isNegative()) {
+            throw new IllegalArgumentException("Stats cache TTL must not be negative");
+        }
+    }
+
+    public enum Aggregation {
+        // GROUP BY queries, only the aggregated rows leave the database
+        DATABASE,
+        // Two projection snapshots aggregated on the fork-join pool, trades memory for fewer round trips
+        PARALLEL
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "habit-builder.streaks")
+public record StreakProperties(
+        @DefaultValue("500") int rebuildBatchSize
+) {
+
+    public StreakProperties {
+        if (rebuildBatchSize < 1) {
+            throw new IllegalArgumentException("Streak rebuild batch size must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Executors are auto-configured by Spring Boot and switch to virtual threads together with the web layer
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class TaskExecutionConfiguration {
+}
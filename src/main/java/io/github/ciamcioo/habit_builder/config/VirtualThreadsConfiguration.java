@@ -0,0 +1,52 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// With virtual threads every request can reach the database at once, so the connection pool becomes the only concurrency limit
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    SmartInitializingSingleton connectionPoolSizeValidator(DataSource dataSource, VirtualThreadsProperties properties) {
+        return () -> {
+            if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+                return;
+            }
+            validateConnectionPool(hikariDataSource, properties);
+        };
+    }
+
+    static void validateConnectionPool(HikariDataSource dataSource, VirtualThreadsProperties properties) {
+        int poolSize = dataSource.getMaximumPoolSize();
+        Duration connectionTimeout = Duration.ofMillis(dataSource.getConnectionTimeout());
+
+        if (poolSize > properties.maxPoolSize()) {
+            throw new IllegalStateException("Connection pool size " + poolSize + " exceeds the limit of " + properties.maxPoolSize() +
+                                            " for virtual threads, size the pool for the database rather than for the number of requests");
+        }
+        if (connectionTimeout.compareTo(properties.maxConnectionTimeout()) > 0) {
+            throw new IllegalStateException("Connection timeout " + connectionTimeout + " exceeds the limit of " + properties.maxConnectionTimeout() +
+                                            " for virtual threads, requests waiting for a connection have to fail fast");
+        }
+
+        log.info("Virtual threads enabled with connection pool size {} (recommended {}) and connection timeout {}",
+                 poolSize, recommendedPoolSize(), connectionTimeout);
+    }
+
+    // Pool sizing rule of thumb: connections = (core count * 2) + effective spindle count
+    static int recommendedPoolSize() {
+        return Runtime.getRuntime().availableProcessors() * 2 + 1;
+    }
+}
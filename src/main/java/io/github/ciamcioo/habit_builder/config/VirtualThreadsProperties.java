@@ -0,0 +1,22 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "habit-builder.virtual-threads")
+public record VirtualThreadsProperties(
+        @DefaultValue("50") int maxPoolSize,
+        @DefaultValue("5s") Duration maxConnectionTimeout
+) {
+
+    public VirtualThreadsProperties {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("Maximum connection pool size must be a positive number");
+        }
+        if (maxConnectionTimeout.isNegative() || maxConnectionTimeout.isZero()) {
+            throw new IllegalArgumentException("Maximum connection timeout must be a positive duration");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.service.feed.ChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("api")
+public class ChangeFeedController {
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final ChangeFeed changeFeed;
+
+    @Autowired
+    public ChangeFeedController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @EnableMethodCallLogging
+    public ResponseEntity<SseEmitter> getChanges(@RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return new ResponseEntity<>(
+                changeFeed.subscribe(lastEventId),
+                HttpStatus.OK
+        );
+    }
+}
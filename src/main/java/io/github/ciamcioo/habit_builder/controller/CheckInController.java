@@ -0,0 +1,56 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.service.CheckInService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("api")
+public class CheckInController {
+    private final CheckInService checkInService;
+
+    public CheckInController(CheckInService checkInService) {
+        this.checkInService = checkInService;
+    }
+
+    @PostMapping("/habit/{name}/checkins")
+    @EnableMethodCallLogging
+    public ResponseEntity<ImportReportDTO> checkIn(@PathVariable("name") String habitName,
+                                                   @RequestBody(required = false) LocalDate... dates) {
+        return new ResponseEntity<>(
+                checkInService.checkIn(habitName, dates != null ? Arrays.asList(dates) : List.of()),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/habit/{name}/checkins")
+    @EnableMethodLogging
+    public ResponseEntity<List<LocalDate>> getCheckIns(@PathVariable("name") String habitName,
+                                                       @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(
+                checkInService.getCheckIns(habitName, from, to),
+                HttpStatus.OK
+        );
+    }
+
+    @DeleteMapping("/habit/{name}/checkins/{date}")
+    @EnableMethodLogging
+    public ResponseEntity<String> deleteCheckIn(@PathVariable("name") String habitName,
+                                                @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        checkInService.deleteCheckIn(habitName, date);
+        return new ResponseEntity<>(
+                "Check-in was deleted",
+                HttpStatus.NO_CONTENT
+        );
+    }
+}
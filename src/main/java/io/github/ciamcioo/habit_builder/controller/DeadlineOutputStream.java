@@ -0,0 +1,42 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+// Fails the first write after the deadline, the exception unwinds whatever produces the response
+final class DeadlineOutputStream extends FilterOutputStream {
+    private static final String DEADLINE_EXCEEDED_MESSAGE_FORMAT = "Response was not written within %s";
+
+    private final Clock clock;
+    private final Duration timeout;
+    private final Instant deadline;
+
+    DeadlineOutputStream(OutputStream out, Clock clock, Duration timeout) {
+        super(out);
+        this.clock = clock;
+        this.timeout = timeout;
+        this.deadline = clock.instant().plus(timeout);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkDeadline();
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkDeadline();
+        out.write(b, off, len);
+    }
+
+    private void checkDeadline() throws IOException {
+        if (clock.instant().isAfter(deadline)) {
+            throw new IOException(String.format(DEADLINE_EXCEEDED_MESSAGE_FORMAT, timeout));
+        }
+    }
+}
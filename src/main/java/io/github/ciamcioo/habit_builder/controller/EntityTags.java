@@ -0,0 +1,56 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.service.EntityVersions;
+import org.springframework.http.HttpHeaders;
+
+// Entity tags are derived from the @Version column, habits add their streaks because check-ins and passing periods
+// change them without a versioned write
+final class EntityTags {
+
+    private EntityTags() { }
+
+    static HttpHeaders headers(HabitDTO habit) {
+        return habit == null || habit.version() == null
+               ? new HttpHeaders()
+               : headers("\"" + habit.version() + "." + habit.currentStreak() + "." + habit.longestStreak() + "\"");
+    }
+
+    static HttpHeaders headers(UserDTO user) {
+        return user == null || user.version() == null
+               ? new HttpHeaders()
+               : headers("\"" + user.version() + "\"");
+    }
+
+    // Only the version part of the tag is compared on writes, so a changed streak doesn't reject an update of the habit itself.
+    // "*" is kept apart from a missing header, it only requires the entity to exist
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        if (ifMatch.trim().equals("*")) {
+            return EntityVersions.ANY;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/") || tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"") || tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match header must contain a single strong entity tag");
+        }
+
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf('.');
+
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match header contains an unknown entity tag");
+        }
+    }
+
+    private static HttpHeaders headers(String entityTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(entityTag);
+        return headers;
+    }
+}
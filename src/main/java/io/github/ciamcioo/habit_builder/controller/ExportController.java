@@ -0,0 +1,53 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.config.ExportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+import io.github.ciamcioo.habit_builder.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Clock;
+
+@RestController
+@RequestMapping("api")
+public class ExportController {
+    private static final String GZIP_VALUE = "application/gzip";
+    private static final MediaType GZIP = MediaType.parseMediaType(GZIP_VALUE);
+
+    private final ExportService exportService;
+    private final ExportProperties exportProperties;
+    private final Clock clock;
+
+    @Autowired
+    public ExportController(ExportService exportService, ExportProperties exportProperties, Clock clock) {
+        this.exportService = exportService;
+        this.exportProperties = exportProperties;
+        this.clock = clock;
+    }
+
+    // Rows are read while the client downloads, a slow client can't keep the connection and the cursor past the response timeout
+    @GetMapping(value = "/export/users", produces = GZIP_VALUE)
+    @EnableMethodCallLogging
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(GZIP);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                                                        .filename(exportService.exportFileName(format))
+                                                        .build());
+        return new ResponseEntity<>(
+                outputStream -> exportService.exportUsers(new DeadlineOutputStream(outputStream, clock, exportProperties.responseTimeout()), format),
+                headers,
+                HttpStatus.OK
+        );
+    }
+}
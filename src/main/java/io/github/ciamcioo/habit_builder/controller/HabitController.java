@@ -1,30 +1,69 @@
 package io.github.ciamcioo.habit_builder.controller;
 
+import io.github.ciamcioo.habit_builder.model.commons.ImportFormat;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
 import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportLineResultDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.service.HabitImportService;
 import io.github.ciamcioo.habit_builder.service.HabitService;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
 import jakarta.json.JsonMergePatch;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("api")
 public class HabitController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final HabitService habitService;
+    private final HabitImportService habitImportService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public HabitController(HabitService habitService) {
+    public HabitController(HabitService habitService, HabitImportService habitImportService, NdjsonWriter ndjsonWriter) {
         this.habitService = habitService;
+        this.habitImportService = habitImportService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @GetMapping("/habits")
     @EnableMethodLogging
-    public ResponseEntity<List<HabitDTO>> getAllHabits() {
+    public ResponseEntity<CursorPageDTO<HabitDTO>> getHabits(@RequestParam(value = "after", required = false) String afterName,
+                                                             @RequestParam(value = "size", required = false) Integer pageSize) {
+        return new ResponseEntity<>(
+               habitService.getHabitsPage(afterName, pageSize),
+               HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/user/{email}/habits")
+    @EnableMethodLogging
+    public ResponseEntity<CursorPageDTO<HabitDTO>> getUserHabits(@PathVariable("email") String email,
+                                                                 @RequestParam(value = "after", required = false) String afterName,
+                                                                 @RequestParam(value = "size", required = false) Integer pageSize) {
+        return new ResponseEntity<>(
+               habitService.getUserHabitsPage(email, afterName, pageSize),
+               HttpStatus.OK
+        );
+    }
+
+    @GetMapping(value = "/habits", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @EnableMethodCallLogging
+    public ResponseEntity<StreamingResponseBody> streamAllHabits() {
         return new ResponseEntity<>(
-               habitService.getAllHabits(),
+               ndjsonWriter.stream(habitService::streamAllHabits),
                HttpStatus.OK
         );
     }
@@ -32,8 +71,20 @@ public class HabitController {
     @GetMapping("/habit/{name}")
     @EnableMethodLogging
     public ResponseEntity<HabitDTO> getHabitByName(@PathVariable("name") String name) {
+        HabitDTO habit = habitService.getHabitByName(name);
         return new ResponseEntity<>(
-                habitService.getHabitByName(name),
+                habit,
+                EntityTags.headers(habit),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/habit/id/{id}")
+    @EnableMethodLogging
+    public ResponseEntity<HabitDTO> getHabitById(@PathVariable("id") UUID id) {
+        HabitDTO habit = habitService.getHabitById(id);
+        return new ResponseEntity<>(
+                habit,
+                EntityTags.headers(habit),
                 HttpStatus.OK);
     }
 
@@ -55,34 +106,97 @@ public class HabitController {
         );
     }
 
+    @PostMapping("/habits/import")
+    @EnableMethodCallLogging
+    public ResponseEntity<ImportReportDTO> importHabits(@RequestBody @Valid HabitDTO... habits) {
+        return new ResponseEntity<>(
+                habitService.importHabits(Arrays.asList(habits)),
+                HttpStatus.OK
+        );
+    }
+
+    // The body is parsed while the report is written, so neither is held in memory as a whole
+    @PostMapping(value = "/habits/import",
+                 consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @EnableMethodCallLogging
+    public ResponseEntity<StreamingResponseBody> streamImportHabits(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                    InputStream body) {
+        ImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? ImportFormat.NDJSON : ImportFormat.CSV;
+
+        return new ResponseEntity<>(
+               ndjsonWriter.<ImportLineResultDTO>stream(results -> habitImportService.importHabits(body, format, results)),
+               HttpStatus.OK
+        );
+    }
+
     @PutMapping("/habit/{name}")
     @EnableMethodLogging
-    public ResponseEntity<HabitDTO> updateHabit(@PathVariable("name") String habitName, @RequestBody @Valid HabitDTO updatedHabit) {
+    public ResponseEntity<HabitDTO> updateHabit(@PathVariable("name") String habitName, @RequestBody @Valid HabitDTO updatedHabit,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        HabitDTO habit = habitService.updateHabit(habitName, updatedHabit, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(
+                habit,
+                EntityTags.headers(habit),
+                HttpStatus.OK
+        );
+    }
+
+    @PutMapping("/habit/id/{id}")
+    @EnableMethodLogging
+    public ResponseEntity<HabitDTO> updateHabitById(@PathVariable("id") UUID id, @RequestBody @Valid HabitDTO updatedHabit,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        HabitDTO habit = habitService.updateHabitById(id, updatedHabit, EntityTags.expectedVersion(ifMatch));
         return new ResponseEntity<>(
-                habitService.updateHabit(habitName, updatedHabit),
+                habit,
+                EntityTags.headers(habit),
                 HttpStatus.OK
         );
     }
 
     @PatchMapping(value = "/habit/{name}", consumes =  "application/merge-patch+json")
     @EnableMethodLogging
-    public ResponseEntity<HabitDTO> partialUpdateHabit(@PathVariable("name") String habitName, @RequestBody JsonMergePatch fieldsToUpdate) {
+    public ResponseEntity<HabitDTO> partialUpdateHabit(@PathVariable("name") String habitName, @RequestBody JsonMergePatch fieldsToUpdate,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        HabitDTO habit = habitService.partialHabitUpdate(habitName, fieldsToUpdate, EntityTags.expectedVersion(ifMatch));
         return new ResponseEntity<>(
-                habitService.partialHabitUpdate(habitName, fieldsToUpdate),
+                habit,
+                EntityTags.headers(habit),
                 HttpStatus.OK
         );
     }
 
     @DeleteMapping("/habit/{name}")
     @EnableMethodLogging
-    public ResponseEntity<String> deleteHabit(@PathVariable("name") String name) {
-        habitService.deleteHabit(name);
+    public ResponseEntity<String> deleteHabit(@PathVariable("name") String name,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        habitService.deleteHabit(name, EntityTags.expectedVersion(ifMatch));
         return new ResponseEntity<>(
             "Habit was deleted",
                 HttpStatus.NO_CONTENT
         );
     }
 
+    @DeleteMapping("/habit/id/{id}")
+    @EnableMethodLogging
+    public ResponseEntity<String> deleteHabitById(@PathVariable("id") UUID id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        habitService.deleteHabitById(id, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(
+                "Habit was deleted",
+                HttpStatus.NO_CONTENT
+        );
+    }
+
+    @DeleteMapping("/habits")
+    @EnableMethodCallLogging
+    public ResponseEntity<List<String>> deleteHabits(@RequestBody String... habitNames) {
+        return new ResponseEntity<>(
+                habitService.deleteHabits(Arrays.asList(habitNames)),
+                HttpStatus.OK
+        );
+    }
+
 
 
 }
@@ -0,0 +1,48 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonReader;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class JsonMergePatchHttpMessageConverter extends AbstractHttpMessageConverter<JsonMergePatch> {
+    public static final MediaType APPLICATION_MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
+    public JsonMergePatchHttpMessageConverter() {
+        super(APPLICATION_MERGE_PATCH_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonMergePatch.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected JsonMergePatch readInternal(Class<? extends JsonMergePatch> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (JsonReader jsonReader = Json.createReader(inputMessage.getBody())) {
+            return Json.createMergePatch(jsonReader.readValue());
+        } catch (JsonException e) {
+            throw new HttpMessageNotReadableException("Invalid merge patch document", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(JsonMergePatch jsonMergePatch, HttpOutputMessage outputMessage) throws HttpMessageNotWritableException {
+        throw new HttpMessageNotWritableException("Merge patch documents are not written in responses");
+    }
+}
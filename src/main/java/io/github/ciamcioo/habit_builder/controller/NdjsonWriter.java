@@ -0,0 +1,44 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+public class NdjsonWriter {
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final ObjectWriter objectWriter;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer()
+                                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectWriter.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(record -> writeLine(generator, record));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void writeLine(JsonGenerator generator, Object record) {
+        try {
+            objectWriter.writeValue(generator, record);
+            generator.writeRaw(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
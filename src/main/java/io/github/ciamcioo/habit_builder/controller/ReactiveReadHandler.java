@@ -0,0 +1,82 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.controller.exceptions.Error;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.service.ReactiveReadService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Component
+@Profile("reactive")
+public class ReactiveReadHandler {
+    private final ReactiveReadService readService;
+
+    public ReactiveReadHandler(ReactiveReadService readService) {
+        this.readService = readService;
+    }
+
+    public Mono<ServerResponse> streamHabits(ServerRequest request) {
+        return ServerResponse.ok()
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .body(readService.streamAllHabits(), HabitDTO.class);
+    }
+
+    public Mono<ServerResponse> getHabits(ServerRequest request) {
+        return handleErrors(Mono.defer(() -> readService.getHabitsPage(request.queryParam("after").orElse(null), pageSize(request)))
+                                .flatMap(page -> ServerResponse.ok().bodyValue(page)));
+    }
+
+    public Mono<ServerResponse> getUserHabits(ServerRequest request) {
+        return handleErrors(Mono.defer(() -> readService.getUserHabitsPage(request.pathVariable("email"), request.queryParam("after").orElse(null), pageSize(request)))
+                                .flatMap(page -> ServerResponse.ok().bodyValue(page)));
+    }
+
+    public Mono<ServerResponse> getHabit(ServerRequest request) {
+        return handleErrors(readService.getHabitByName(request.pathVariable("name"))
+                                       .flatMap(habit -> ServerResponse.ok().headers(headers -> headers.addAll(EntityTags.headers(habit))).bodyValue(habit)));
+    }
+
+    public Mono<ServerResponse> getHabitById(ServerRequest request) {
+        return handleErrors(Mono.defer(() -> readService.getHabitById(UUID.fromString(request.pathVariable("id"))))
+                                .flatMap(habit -> ServerResponse.ok().headers(headers -> headers.addAll(EntityTags.headers(habit))).bodyValue(habit)));
+    }
+
+    public Mono<ServerResponse> getUsers(ServerRequest request) {
+        return handleErrors(Mono.defer(() -> readService.getUsersPage(request.queryParam("after").orElse(null), pageSize(request)))
+                                .flatMap(page -> ServerResponse.ok().bodyValue(page)));
+    }
+
+    public Mono<ServerResponse> getUser(ServerRequest request) {
+        return handleErrors(readService.getUser(request.pathVariable("email"))
+                                       .flatMap(user -> ServerResponse.ok().headers(headers -> headers.addAll(EntityTags.headers(user))).bodyValue(user)));
+    }
+
+    private Integer pageSize(ServerRequest request) {
+        return request.queryParam("size")
+                      .map(Integer::valueOf)
+                      .orElse(null);
+    }
+
+    // Mirrors RestResponseEntityExceptionHandler for the read paths served here
+    private Mono<ServerResponse> handleErrors(Mono<ServerResponse> response) {
+        return response.onErrorResume(e -> e instanceof HabitNotFoundException || e instanceof UserNotFoundException,
+                                      e -> error(e, HttpStatus.NOT_FOUND))
+                       .onErrorResume(IllegalArgumentException.class,
+                                      e -> error(e, HttpStatus.BAD_REQUEST));
+    }
+
+    private Mono<ServerResponse> error(Throwable exception, HttpStatus status) {
+        return ServerResponse.status(status)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .bodyValue(new Error(exception.getMessage()));
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveReadRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveReadHandler handler) {
+        return route()
+                .path("/api", builder -> builder
+                        .GET("/habits", acceptsNdjson(), handler::streamHabits)
+                        .GET("/habits", handler::getHabits)
+                        .GET("/habit/id/{id}", handler::getHabitById)
+                        .GET("/habit/{name}", handler::getHabit)
+                        .GET("/user/{email}/habits", handler::getUserHabits)
+                        .GET("/user/{email}", handler::getUser)
+                        .GET("/user", handler::getUsers))
+                .build();
+    }
+
+    // The stream is only served when asked for explicitly, a */* client gets the page like on the MVC endpoint
+    private RequestPredicate acceptsNdjson() {
+        return request -> request.headers()
+                                 .accept()
+                                 .stream()
+                                 .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.model.dto.StatsDTO;
+import io.github.ciamcioo.habit_builder.service.StatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api")
+public class StatsController {
+    private final StatsService statsService;
+
+    @Autowired
+    public StatsController(StatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @GetMapping("/stats")
+    @EnableMethodLogging
+    public ResponseEntity<StatsDTO> getStats() {
+        return new ResponseEntity<>(
+                statsService.getStats(),
+                HttpStatus.OK
+        );
+    }
+}
@@ -1,10 +1,15 @@
 package io.github.ciamcioo.habit_builder.controller;
 
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
 import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
 import io.github.ciamcioo.habit_builder.service.UserService;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,9 +29,18 @@ public class UserController {
 
     @GetMapping("/user")
     @EnableMethodLogging
-    public ResponseEntity<List<UserDTO>> getUsers() {
+    public ResponseEntity<CursorPageDTO<UserDTO>> getUsers(@RequestParam(value = "after", required = false) String afterEmail,
+                                                           @RequestParam(value = "size", required = false) Integer pageSize,
+                                                           @RequestParam(value = "usernamePrefix", required = false) String usernamePrefix,
+                                                           @RequestParam(value = "minAge", required = false) Integer minAge,
+                                                           @RequestParam(value = "maxAge", required = false) Integer maxAge,
+                                                           @RequestParam(value = "emailDomain", required = false) String emailDomain) {
         return new ResponseEntity<>(
-                userService.getAllUsers(),
+                userService.getUsersPage(
+                        new UserSearchCriteria(usernamePrefix, minAge, maxAge, emailDomain),
+                        afterEmail,
+                        pageSize
+                ),
                 HttpStatus.OK
         );
     }
@@ -34,8 +48,10 @@ public class UserController {
     @GetMapping("/user/{email}")
     @EnableMethodLogging
     public ResponseEntity<UserDTO> getUser(@PathVariable("email") @Valid String  email) {
+        UserDTO user = userService.getUser(email);
         return new ResponseEntity<>(
-                userService.getUser(email),
+                user,
+                EntityTags.headers(user),
                 HttpStatus.OK
         );
 
@@ -59,19 +75,32 @@ public class UserController {
         );
     }
 
+    @PostMapping("/users/import")
+    @EnableMethodCallLogging
+    public ResponseEntity<ImportReportDTO> importUsers(@RequestBody @Valid UserDTO... userDTOs) {
+        return new ResponseEntity<>(
+                userService.importUsers(Arrays.asList(userDTOs)),
+                HttpStatus.OK
+        );
+    }
+
     @PutMapping("/user/{email}")
     @EnableMethodLogging
-    public ResponseEntity<UserDTO> updateUser(@PathVariable("email") String email,@RequestBody @Valid UserDTO userDTO) {
+    public ResponseEntity<UserDTO> updateUser(@PathVariable("email") String email,@RequestBody @Valid UserDTO userDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDTO user = userService.updateUser(email, userDTO, EntityTags.expectedVersion(ifMatch));
         return new ResponseEntity<>(
-                userService.updateUser(email, userDTO),
+                user,
+                EntityTags.headers(user),
                 HttpStatus.OK
         );
     }
 
     @DeleteMapping("/user/{email}")
     @EnableMethodLogging
-    public ResponseEntity<Object> deleteUser(@PathVariable("email") String email) {
-        userService.deleteUser(email);
+    public ResponseEntity<Object> deleteUser(@PathVariable("email") String email,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userService.deleteUser(email, EntityTags.expectedVersion(ifMatch));
         return new ResponseEntity<>(
                 HttpStatus.NO_CONTENT
         );
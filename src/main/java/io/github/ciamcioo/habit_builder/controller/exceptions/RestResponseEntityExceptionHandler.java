@@ -2,6 +2,7 @@ package io.github.ciamcioo.habit_builder.controller.exceptions;
 
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
 import io.github.ciamcioo.habit_builder.exception.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -46,6 +47,29 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
     }
 
 
+    @ExceptionHandler(value = {
+            PreconditionFailedException.class
+    })
+    @EnableMethodLogging
+    protected ResponseEntity<Error> preconditionFailedExceptionHandler(RuntimeException exception) {
+        return new ResponseEntity<>(
+                new Error(exception.getMessage()),
+                HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    // Concurrent write that committed between reading and flushing the entity
+    @ExceptionHandler(value = {
+            OptimisticLockingFailureException.class
+    })
+    @EnableMethodLogging
+    protected ResponseEntity<Error> conflictExceptionHandler(RuntimeException exception) {
+        return new ResponseEntity<>(
+                new Error("Resource was modified concurrently, reload it and retry"),
+                HttpStatus.CONFLICT
+        );
+    }
+
     @ExceptionHandler(value = {
         ProcessingException.class
     })
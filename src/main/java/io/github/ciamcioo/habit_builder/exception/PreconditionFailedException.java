@@ -0,0 +1,13 @@
+package io.github.ciamcioo.habit_builder.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public static final String DEFAULT_PRECONDITION_FAILED_MESSAGE = "Resource was modified since it was read";
+
+    public PreconditionFailedException() {
+        super(DEFAULT_PRECONDITION_FAILED_MESSAGE);
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.ciamcioo.habit_builder.model.commons;
+
+public enum AgeBucket {
+    UNDER_18(0),
+    AGE_18_24(18),
+    AGE_25_34(25),
+    AGE_35_49(35),
+    AGE_50_64(50),
+    AGE_65_PLUS(65),
+    UNKNOWN(-1);
+
+    private final int minAge;
+
+    AgeBucket(int minAge) {
+        this.minAge = minAge;
+    }
+
+    public static AgeBucket of(Integer age) {
+        if (age == null || age < 0) {
+            return UNKNOWN;
+        }
+
+        AgeBucket bucket = UNDER_18;
+        for (AgeBucket candidate : values()) {
+            if (candidate != UNKNOWN && age >= candidate.minAge) {
+                bucket = candidate;
+            }
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.ciamcioo.habit_builder.model.commons;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    PATCHED,
+    DELETED
+}
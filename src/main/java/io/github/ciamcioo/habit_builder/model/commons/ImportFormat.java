@@ -0,0 +1,6 @@
+package io.github.ciamcioo.habit_builder.model.commons;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,9 @@
+package io.github.ciamcioo.habit_builder.model.commons;
+
+public enum ImportStatus {
+    CREATED,
+    ALREADY_EXISTS,
+    USERNAME_TAKEN,
+    DUPLICATE,
+    INVALID
+}
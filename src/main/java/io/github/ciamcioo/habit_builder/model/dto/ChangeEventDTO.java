@@ -0,0 +1,18 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+
+import java.util.List;
+
+// Habits are identified by id, users by email, clients fetch the current state of the keys they care about
+public record ChangeEventDTO(
+        Resource resource,
+        ChangeType type,
+        List<String> keys
+) {
+
+    public enum Resource {
+        HABIT,
+        USER
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        String nextCursor
+) {
+
+    // Expects up to pageSize + 1 records, the extra one only signals that another page exists
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int pageSize, Function<T, String> cursorExtractor) {
+        if (fetched.size() <= pageSize) {
+            return new CursorPageDTO<>(fetched, null);
+        }
+
+        List<T> content = fetched.subList(0, pageSize);
+        return new CursorPageDTO<>(
+                content,
+                cursorExtractor.apply(content.getLast())
+        );
+    }
+}
@@ -1,10 +1,14 @@
 package io.github.ciamcioo.habit_builder.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.UUID;
 
 public record HabitDTO(
 
@@ -22,21 +26,48 @@ public record HabitDTO(
     @Future(message = "End date of habit must be placed in the future")
     LocalDate endDate,
 
-    Boolean reminder
+    Boolean reminder,
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer currentStreak,
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer longestStreak,
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    UUID id,
+
+    // Sent as the ETag header instead of the body
+    @JsonIgnore
+    Long version
 ) {
 
+    public HabitDTO {
+        startDate = startDate != null ? startDate : LocalDate.now();
+        endDate = endDate != null ? endDate : LocalDate.now().plusYears(1);
+        reminder = reminder != null ? reminder : false;
+    }
+
     public HabitDTO(String name,
                     HabitFrequency frequency,
                     LocalDate startDate,
                     LocalDate endDate,
                     Boolean reminder
     ) {
+        this(name, frequency, startDate, endDate, reminder, null, null, null, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Start date of habit cannot be placed after its end date")
+    public boolean isDateRangeValid() {
+        return !startDate.isAfter(endDate);
+    }
 
-        this.name = name;
-        this.frequency = frequency;
-        this.startDate = startDate != null ? startDate : LocalDate.now();
-        this.endDate = endDate != null ? endDate : LocalDate.now().plusYears(1);
-        this.reminder = reminder != null ? reminder : false;
+    public HabitDTO withCurrentStreak(Integer currentStreak) {
+        return new HabitDTO(name, frequency, startDate, endDate, reminder, currentStreak, longestStreak, id, version);
     }
 
     @Override
@@ -59,6 +90,10 @@ public record HabitDTO(
                 ", startDate=" + startDate +
                 ", endDate=" + endDate +
                 ", reminder=" + reminder +
+                ", currentStreak=" + currentStreak +
+                ", longestStreak=" + longestStreak +
+                ", id=" + id +
+                ", version=" + version +
                 '}';
     }
 }
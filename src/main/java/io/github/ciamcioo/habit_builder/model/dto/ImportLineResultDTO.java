@@ -0,0 +1,18 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+
+public record ImportLineResultDTO(
+        long line,
+        String key,
+        ImportStatus status,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String message
+) {
+
+    public ImportLineResultDTO(long line, String key, ImportStatus status) {
+        this(line, key, status, null);
+    }
+}
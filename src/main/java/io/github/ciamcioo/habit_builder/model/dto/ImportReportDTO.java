@@ -0,0 +1,27 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+
+import java.util.List;
+
+public record ImportReportDTO(
+        int created,
+        int skipped,
+        List<ImportResultDTO> results
+) {
+
+    public static ImportReportDTO of(List<ImportResultDTO> results) {
+        int created = (int) results.stream()
+                                   .filter(result -> result.status() == ImportStatus.CREATED)
+                                   .count();
+
+        return new ImportReportDTO(created, results.size() - created, results);
+    }
+
+    public List<String> createdKeys() {
+        return results.stream()
+                      .filter(result -> result.status() == ImportStatus.CREATED)
+                      .map(ImportResultDTO::key)
+                      .toList();
+    }
+}
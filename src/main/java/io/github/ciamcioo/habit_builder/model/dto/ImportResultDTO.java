@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+
+public record ImportResultDTO(
+        String key,
+        ImportStatus status
+) {
+
+}
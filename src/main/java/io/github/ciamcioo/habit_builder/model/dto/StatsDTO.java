@@ -0,0 +1,21 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+import io.github.ciamcioo.habit_builder.model.commons.AgeBucket;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record StatsDTO(
+        long users,
+        long habits,
+        double averageHabitsPerUser,
+        Map<Long, Long> usersByHabitCount,
+        Map<HabitFrequency, Long> habitsByFrequency,
+        long activeHabits,
+        long expiredHabits,
+        Map<AgeBucket, Long> usersByAgeBucket,
+        Instant generatedAt
+) {
+
+}
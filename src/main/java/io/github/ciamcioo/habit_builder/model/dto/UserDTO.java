@@ -1,5 +1,6 @@
 package io.github.ciamcioo.habit_builder.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.*;
 
 import java.util.Objects;
@@ -22,14 +23,23 @@ public record UserDTO(
         String lastName,
 
         @PositiveOrZero(message = "Age must not be a negative number")
-        Integer age
+        Integer age,
+
+        // Sent as the ETag header instead of the body
+        @JsonIgnore
+        Long version
 ) {
-        public UserDTO(String email, String username, String firstName, String lastName, Integer age) {
+        public UserDTO(String email, String username, String firstName, String lastName, Integer age, Long version) {
                 this.email = email;
                 this.username = username;
                 this.firstName = firstName != null ? firstName : "unspecified";
                 this.lastName = lastName != null ? lastName : "unspecified";
                 this.age = age != null ? age : 0;
+                this.version = version;
+        }
+
+        public UserDTO(String email, String username, String firstName, String lastName, Integer age) {
+                this(email, username, firstName, lastName, age, null);
         }
 
         @Override
@@ -52,6 +62,7 @@ public record UserDTO(
                         ", firstName='" + firstName + '\'' +
                         ", lastName='" + lastName + '\'' +
                         ", age=" + age +
+                        ", version=" + version +
                         '}';
         }
 }
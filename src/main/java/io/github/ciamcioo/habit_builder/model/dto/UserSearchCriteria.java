@@ -0,0 +1,22 @@
+package io.github.ciamcioo.habit_builder.model.dto;
+
+public record UserSearchCriteria(
+        String usernamePrefix,
+        Integer minAge,
+        Integer maxAge,
+        String emailDomain
+) {
+
+    public UserSearchCriteria {
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("Minimal age cannot be greater than maximal age");
+        }
+
+        usernamePrefix = usernamePrefix != null && !usernamePrefix.isBlank() ? usernamePrefix : null;
+        emailDomain = emailDomain != null && !emailDomain.isBlank() ? emailDomain.toLowerCase() : null;
+    }
+
+    public static UserSearchCriteria none() {
+        return new UserSearchCriteria(null, null, null, null);
+    }
+}
@@ -2,6 +2,7 @@ package io.github.ciamcioo.habit_builder.model.entity;
 
 import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDate;
 import java.util.Objects;
@@ -11,7 +12,8 @@ import java.util.UUID;
 public class Habit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "id")
     private UUID uuid;
 
@@ -31,10 +33,24 @@ public class Habit {
     @Column(name = "reminder")
     private Boolean reminder;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
+    // Maintained by the streak service with update queries, the entity never writes them
+    @Column(name = "current_streak", insertable = false, updatable = false)
+    private Integer currentStreak;
+
+    @Column(name = "longest_streak", insertable = false, updatable = false)
+    private Integer longestStreak;
+
+    @Column(name = "last_streak_period", insertable = false, updatable = false)
+    private LocalDate lastStreakPeriod;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
 
     public Habit() {
     }
@@ -112,6 +128,22 @@ public class Habit {
         this.user = user;
     }
 
+    public Integer getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public Integer getLongestStreak() {
+        return longestStreak;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDate getLastStreakPeriod() {
+        return lastStreakPeriod;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -133,7 +165,7 @@ public class Habit {
                 ", startDate=" + startDate +
                 ", endDate=" + endDate +
                 ", reminder=" + reminder +
-                ", user=" + user +
+                ", userId=" + (user != null ? user.getId() : null) +
                 '}';
     }
 
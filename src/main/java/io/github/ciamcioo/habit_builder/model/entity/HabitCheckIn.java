@@ -0,0 +1,50 @@
+package io.github.ciamcioo.habit_builder.model.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+// Row consists only of the composite key, the habit is referenced by id so check-ins never load the habit entity.
+// The habit row is still locked on insert, it serializes check-ins and streak updates of one habit
+@Entity
+@Table(name = "habit_check_in")
+public class HabitCheckIn {
+
+    @EmbeddedId
+    private HabitCheckInId id;
+
+
+    public HabitCheckIn() {
+    }
+
+    public HabitCheckIn(UUID habitId, LocalDate date) {
+        this.id = new HabitCheckInId(habitId, date);
+    }
+
+    public HabitCheckInId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        HabitCheckIn checkIn = (HabitCheckIn) o;
+        return Objects.equals(id, checkIn.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "HabitCheckIn{" +
+                "id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.ciamcioo.habit_builder.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class HabitCheckInId implements Serializable {
+
+    @Column(name = "habit_id", nullable = false)
+    private UUID habitId;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate date;
+
+
+    public HabitCheckInId() {
+    }
+
+    public HabitCheckInId(UUID habitId, LocalDate date) {
+        this.habitId = habitId;
+        this.date = date;
+    }
+
+    public UUID getHabitId() {
+        return habitId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        HabitCheckInId that = (HabitCheckInId) o;
+        return Objects.equals(habitId, that.habitId) && Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(habitId, date);
+    }
+
+    @Override
+    public String toString() {
+        return "HabitCheckInId{" +
+                "habitId=" + habitId +
+                ", date=" + date +
+                '}';
+    }
+}
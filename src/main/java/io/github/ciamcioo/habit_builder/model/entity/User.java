@@ -1,6 +1,7 @@
 package io.github.ciamcioo.habit_builder.model.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.List;
 import java.util.Objects;
@@ -11,7 +12,8 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "id")
     private UUID id;
 
@@ -30,10 +32,16 @@ public class User {
     @Column(name = "age")
     private Integer age;
 
-    @OneToMany(mappedBy = "user",
-                cascade = {CascadeType.REMOVE},
-                orphanRemoval = true
-    )
+    // Generated by the database from email, mapped only to be used in search queries
+    @Column(name = "email_domain", insertable = false, updatable = false)
+    private String emailDomain;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // Read-only side of the relation, habits of a deleted user are removed by UserService with a set-based delete
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     List<Habit> userHabits;
 
     public User() { }
@@ -103,6 +111,10 @@ public class User {
         this.age = age;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<Habit> getUserHabits() {
         return userHabits;
     }
@@ -132,7 +144,6 @@ public class User {
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
                 ", age=" + age +
-                ", userHabits=" + userHabits +
                 '}';
     }
 }
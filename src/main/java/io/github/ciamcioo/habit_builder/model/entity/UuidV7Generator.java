@@ -0,0 +1,55 @@
+package io.github.ciamcioo.habit_builder.model.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// RFC 9562 version 7: 48 bit millisecond timestamp, 12 bit sequence and 62 random bits.
+// Identifiers generated one after another are increasing, so new primary keys are appended to the right of the index
+// instead of splitting random B-tree pages
+public class UuidV7Generator implements UuidValueGenerator {
+    private static final int  SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static long lastTimestamp = -1;
+    private static long sequence;
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    public static UUID next() {
+        long timestamp;
+        long currentSequence;
+
+        lock.lock();
+        try {
+            timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+            if (timestamp == lastTimestamp) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                // Sequence exhausted within one millisecond, borrow the next one to stay monotonic
+                if (sequence == 0) {
+                    timestamp++;
+                }
+            } else {
+                sequence = ThreadLocalRandom.current().nextLong(SEQUENCE_MASK >> 1);
+            }
+
+            lastTimestamp = timestamp;
+            currentSequence = sequence;
+        } finally {
+            lock.unlock();
+        }
+
+        long mostSignificantBits  = (timestamp << 16) | (0x7L << SEQUENCE_BITS) | currentSequence;
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
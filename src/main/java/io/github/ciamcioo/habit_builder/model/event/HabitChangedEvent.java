@@ -0,0 +1,13 @@
+package io.github.ciamcioo.habit_builder.model.event;
+
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+
+import java.util.List;
+import java.util.UUID;
+
+public record HabitChangedEvent(
+        List<UUID> habitIds,
+        ChangeType changeType
+) {
+
+}
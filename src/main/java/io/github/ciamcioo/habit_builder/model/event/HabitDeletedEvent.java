@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.model.event;
+
+import java.util.List;
+import java.util.UUID;
+
+public record HabitDeletedEvent(
+        List<UUID> habitIds
+) {
+
+}
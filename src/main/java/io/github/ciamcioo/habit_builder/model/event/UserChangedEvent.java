@@ -0,0 +1,12 @@
+package io.github.ciamcioo.habit_builder.model.event;
+
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+
+import java.util.List;
+
+public record UserChangedEvent(
+        List<String> emails,
+        ChangeType changeType
+) {
+
+}
@@ -0,0 +1,7 @@
+package io.github.ciamcioo.habit_builder.model.event;
+
+public record UserDeletedEvent(
+        String email
+) {
+
+}
@@ -0,0 +1,9 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import java.util.Collection;
+
+public interface BulkInsertRepository<T> {
+
+    void insertAll(Collection<T> entities);
+
+}
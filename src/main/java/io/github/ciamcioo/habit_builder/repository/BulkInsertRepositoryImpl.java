@@ -0,0 +1,24 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+class BulkInsertRepositoryImpl<T> implements BulkInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Persists new entities without the merge check of save() and detaches only them afterwards,
+    // so hibernate.jdbc.batch_size can group the inserts and the persistence context doesn't grow between chunks
+    // while entities the caller already manages in the same transaction stay attached
+    @Override
+    @Transactional
+    public void insertAll(Collection<T> entities) {
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        entities.forEach(entityManager::detach);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface CheckInUpsertRepository {
+
+    List<LocalDate> insertMissing(UUID habitId, List<LocalDate> dates);
+}
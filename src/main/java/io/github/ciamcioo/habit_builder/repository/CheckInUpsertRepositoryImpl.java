@@ -0,0 +1,87 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class CheckInUpsertRepositoryImpl implements CheckInUpsertRepository {
+    private static final String LOCK_HABIT_SQL =
+            "SELECT id FROM habit WHERE id = :habitId FOR UPDATE";
+    private static final String FIND_EXISTING_DATES_SQL =
+            "SELECT check_in_date FROM habit_check_in WHERE habit_id = :habitId AND check_in_date IN (:dates) FOR UPDATE";
+    private static final String INSERT_SQL =
+            "INSERT INTO habit_check_in(habit_id, check_in_date) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    // The MySQL schema stores identifiers as BINARY(16), the driver can't bind a UUID to it
+    private final boolean binaryIdentifiers;
+
+    CheckInUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.binaryIdentifiers = isMySql(jdbcTemplate.getDataSource());
+    }
+
+    // Check-ins of one habit are serialized on the habit row, so the dates found missing are exactly the dates inserted
+    // and neither batch update counts nor a vendor specific upsert are needed. The existing dates are a locking read,
+    // under MySQL repeatable read a plain one could miss dates committed by the check-in that held the lock before
+    @Override
+    @Transactional
+    public List<LocalDate> insertMissing(UUID habitId, List<LocalDate> dates) {
+        Object habitKey = toKey(habitId);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("habitId", habitKey)
+                .addValue("dates", dates.stream().map(Date::valueOf).toList());
+
+        namedParameterJdbcTemplate.queryForList(LOCK_HABIT_SQL, parameters);
+        Set<LocalDate> existingDates = new HashSet<>(namedParameterJdbcTemplate.query(
+                FIND_EXISTING_DATES_SQL,
+                parameters,
+                (resultSet, rowNumber) -> resultSet.getDate(1).toLocalDate()
+        ));
+
+        List<LocalDate> missingDates = dates.stream().filter(date -> !existingDates.contains(date)).toList();
+        if (!missingDates.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missingDates, missingDates.size(), (statement, date) -> {
+                statement.setObject(1, habitKey);
+                statement.setDate(2, Date.valueOf(date));
+            });
+        }
+        return missingDates;
+    }
+
+    private Object toKey(UUID id) {
+        if (!binaryIdentifiers) {
+            return id;
+        }
+
+        return ByteBuffer.allocate(16)
+                         .putLong(id.getMostSignificantBits())
+                         .putLong(id.getLeastSignificantBits())
+                         .array();
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            return "MySQL".equals(JdbcUtils.commonDatabaseName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName)
+            ));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Database product cannot be resolved for check-in inserts", e);
+        }
+    }
+}
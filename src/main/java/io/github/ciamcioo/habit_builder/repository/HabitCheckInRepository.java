@@ -0,0 +1,37 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.entity.HabitCheckIn;
+import io.github.ciamcioo.habit_builder.model.entity.HabitCheckInId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HabitCheckInRepository extends JpaRepository<HabitCheckIn, HabitCheckInId>, CheckInUpsertRepository {
+
+    @Query("SELECT c.id.date FROM HabitCheckIn c " +
+           "WHERE c.id.habitId = :habitId AND c.id.date BETWEEN :from AND :to " +
+           "ORDER BY c.id.date")
+    List<LocalDate> findDates(@Param("habitId") UUID habitId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT c.id FROM HabitCheckIn c WHERE c.id.habitId IN :habitIds ORDER BY c.id.habitId, c.id.date")
+    List<HabitCheckInId> findAllByHabitIds(@Param("habitIds") Collection<UUID> habitIds);
+
+    // Locking read for streak rebuilds, a plain read could miss check-ins committed after the transaction's snapshot
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c.id.date FROM HabitCheckIn c WHERE c.id.habitId = :habitId ORDER BY c.id.date")
+    List<LocalDate> findAllDatesForShare(@Param("habitId") UUID habitId);
+
+    @Modifying
+    @Query("DELETE FROM HabitCheckIn c WHERE c.id.habitId = :habitId AND c.id.date = :date")
+    int deleteCheckIn(@Param("habitId") UUID habitId, @Param("date") LocalDate date);
+}
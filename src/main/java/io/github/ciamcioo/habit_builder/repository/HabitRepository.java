@@ -1,16 +1,136 @@
 package io.github.ciamcioo.habit_builder.repository;
 
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
 import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.repository.projection.GroupCount;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitKeys;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitReminder;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitSchedule;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStatsRow;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStreak;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface HabitRepository extends JpaRepository<Habit, Integer> {
+public interface HabitRepository extends JpaRepository<Habit, UUID>, BulkInsertRepository<Habit> {
+    String STREAM_FETCH_SIZE = "500";
 
     Optional<Habit> findHabitByName(String name);
 
     Boolean existsByName(String name);
 
+    // Skips the automatic flush, a rename pending on a managed habit is checked before it reaches the unique constraint
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT COUNT(h) > 0 FROM Habit h WHERE h.name = :name")
+    boolean existsByNameWithoutFlush(@Param("name") String name);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitSchedule(h.uuid, h.frequency, h.startDate, h.endDate) " +
+           "FROM Habit h WHERE h.name = :name")
+    Optional<HabitSchedule> findScheduleByName(@Param("name") String name);
+
+    @Query("SELECT h.name FROM Habit h WHERE h.name IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    // Locking read, it sees the latest committed streak even if the transaction's snapshot was taken before a concurrent check-in committed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitStreak(h.uuid, h.frequency, h.currentStreak, h.longestStreak, h.lastStreakPeriod) " +
+           "FROM Habit h WHERE h.uuid = :id")
+    Optional<HabitStreak> findStreakForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitStreak(h.uuid, h.frequency, h.currentStreak, h.longestStreak, h.lastStreakPeriod) " +
+           "FROM Habit h WHERE h.uuid > :after ORDER BY h.uuid")
+    List<HabitStreak> findStreaksAfter(@Param("after") UUID after, Limit limit);
+
+    // Applies the new streak only if nobody changed it since it was read, the nightly rebuild writes streaks without taking the row lock
+    @Modifying
+    @Transactional
+    @Query("UPDATE Habit h SET h.currentStreak = :currentStreak, h.longestStreak = :longestStreak, h.lastStreakPeriod = :lastStreakPeriod " +
+           "WHERE h.uuid = :id AND h.currentStreak = :expectedCurrentStreak " +
+           "AND (h.lastStreakPeriod = :expectedLastStreakPeriod OR (h.lastStreakPeriod IS NULL AND :expectedLastStreakPeriod IS NULL))")
+    int compareAndSetStreak(@Param("id") UUID id,
+                            @Param("expectedCurrentStreak") int expectedCurrentStreak,
+                            @Param("expectedLastStreakPeriod") LocalDate expectedLastStreakPeriod,
+                            @Param("currentStreak") int currentStreak,
+                            @Param("longestStreak") int longestStreak,
+                            @Param("lastStreakPeriod") LocalDate lastStreakPeriod);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Habit h SET h.currentStreak = :currentStreak, h.longestStreak = :longestStreak, h.lastStreakPeriod = :lastStreakPeriod " +
+           "WHERE h.uuid = :id")
+    int setStreak(@Param("id") UUID id,
+                  @Param("currentStreak") int currentStreak,
+                  @Param("longestStreak") int longestStreak,
+                  @Param("lastStreakPeriod") LocalDate lastStreakPeriod);
+
+    // Read endpoints select straight into projections, no entities are hydrated nor tracked by the persistence context
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitView(h.uuid, h.name, h.frequency, h.startDate, h.endDate, h.reminder, h.currentStreak, h.longestStreak, h.lastStreakPeriod, h.version) " +
+           "FROM Habit h WHERE h.name > :after ORDER BY h.name")
+    List<HabitView> findViewsByNameGreaterThan(@Param("after") String after, Limit limit);
+
+    // Joins the owner only to filter by email
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitView(h.uuid, h.name, h.frequency, h.startDate, h.endDate, h.reminder, h.currentStreak, h.longestStreak, h.lastStreakPeriod, h.version) " +
+           "FROM Habit h JOIN h.user u WHERE u.email = :email AND h.name > :after ORDER BY h.name")
+    List<HabitView> findViewsByUserEmailAndNameGreaterThan(@Param("email") String email, @Param("after") String after, Limit limit);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitView(h.uuid, h.name, h.frequency, h.startDate, h.endDate, h.reminder, h.currentStreak, h.longestStreak, h.lastStreakPeriod, h.version) " +
+           "FROM Habit h")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<HabitView> streamAllHabits();
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitReminder(h.uuid, h.name, h.frequency, h.startDate, h.endDate) " +
+           "FROM Habit h WHERE h.reminder = TRUE AND (h.endDate IS NULL OR h.endDate >= :today)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<HabitReminder> streamActiveReminders(@Param("today") LocalDate today);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitReminder(h.uuid, h.name, h.frequency, h.startDate, h.endDate) " +
+           "FROM Habit h WHERE h.uuid IN :ids AND h.reminder = TRUE")
+    List<HabitReminder> findRemindersByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.GroupCount(h.frequency, COUNT(h)) " +
+           "FROM Habit h GROUP BY h.frequency")
+    List<GroupCount<HabitFrequency>> countByFrequency();
+
+    long countByEndDateBefore(LocalDate date);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitStatsRow(u.id, h.frequency, h.endDate) " +
+           "FROM Habit h LEFT JOIN h.user u")
+    List<HabitStatsRow> findStatsRows();
+
+    // Set-based deletes, check-ins go with their habits through ON DELETE CASCADE of the foreign key
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitKeys(h.uuid, h.name) " +
+           "FROM Habit h WHERE h.name IN :names")
+    List<HabitKeys> findKeysByNameIn(@Param("names") Collection<String> names);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.HabitKeys(h.uuid, h.name) " +
+           "FROM Habit h WHERE h.user.id = :userId")
+    List<HabitKeys> findKeysByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM Habit h WHERE h.name IN :names")
+    int deleteAllByNameIn(@Param("names") Collection<String> names);
+
+    @Modifying
+    @Query("DELETE FROM Habit h WHERE h.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
 }
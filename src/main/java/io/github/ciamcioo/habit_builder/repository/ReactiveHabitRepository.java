@@ -0,0 +1,81 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Reads the same rows as the HabitView JPQL projections, rows are mapped as they arrive and only as fast as the subscriber requests them
+@Repository
+@Profile("reactive")
+public class ReactiveHabitRepository {
+    private static final String SELECT_VIEW =
+            "SELECT h.id, h.name, h.habit_frequency, CAST(h.start_date AS DATE) AS start_date, CAST(h.end_date AS DATE) AS end_date, " +
+            "h.reminder, h.current_streak, h.longest_streak, h.last_streak_period, h.version FROM habit h ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveHabitRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    public Flux<HabitView> findAllViews() {
+        return databaseClient.sql(SELECT_VIEW)
+                             .map(ReactiveHabitRepository::toView)
+                             .all();
+    }
+
+    public Flux<HabitView> findViewsByNameGreaterThan(String after, int limit) {
+        return databaseClient.sql(SELECT_VIEW + "WHERE h.name > :after ORDER BY h.name LIMIT :limit")
+                             .bind("after", after)
+                             .bind("limit", limit)
+                             .map(ReactiveHabitRepository::toView)
+                             .all();
+    }
+
+    public Flux<HabitView> findViewsByUserEmailAndNameGreaterThan(String email, String after, int limit) {
+        return databaseClient.sql(SELECT_VIEW + "JOIN habit_user u ON u.id = h.user_id " +
+                                  "WHERE u.email = :email AND h.name > :after ORDER BY h.name LIMIT :limit")
+                             .bind("email", email)
+                             .bind("after", after)
+                             .bind("limit", limit)
+                             .map(ReactiveHabitRepository::toView)
+                             .all();
+    }
+
+    public Mono<HabitView> findViewByName(String name) {
+        return databaseClient.sql(SELECT_VIEW + "WHERE h.name = :name")
+                             .bind("name", name)
+                             .map(ReactiveHabitRepository::toView)
+                             .one();
+    }
+
+    public Mono<HabitView> findViewById(UUID id) {
+        return databaseClient.sql(SELECT_VIEW + "WHERE h.id = :id")
+                             .bind("id", id)
+                             .map(ReactiveHabitRepository::toView)
+                             .one();
+    }
+
+    private static HabitView toView(Readable row) {
+        return new HabitView(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                HabitFrequency.valueOf(row.get("habit_frequency", String.class)),
+                row.get("start_date", LocalDate.class),
+                row.get("end_date", LocalDate.class),
+                row.get("reminder", Boolean.class),
+                row.get("current_streak", Integer.class),
+                row.get("longest_streak", Integer.class),
+                row.get("last_streak_period", LocalDate.class),
+                row.get("version", Long.class)
+        );
+    }
+}
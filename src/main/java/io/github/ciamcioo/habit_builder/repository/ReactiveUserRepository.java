@@ -0,0 +1,55 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public class ReactiveUserRepository {
+    private static final String SELECT_DTO = "SELECT u.email, u.username, u.first_name, u.last_name, u.age, u.version FROM habit_user u ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    public Flux<UserDTO> findDTOsByEmailGreaterThan(String after, int limit) {
+        return databaseClient.sql(SELECT_DTO + "WHERE u.email > :after ORDER BY u.email LIMIT :limit")
+                             .bind("after", after)
+                             .bind("limit", limit)
+                             .map(ReactiveUserRepository::toDTO)
+                             .all();
+    }
+
+    public Mono<UserDTO> findDTOByEmail(String email) {
+        return databaseClient.sql(SELECT_DTO + "WHERE u.email = :email")
+                             .bind("email", email)
+                             .map(ReactiveUserRepository::toDTO)
+                             .one();
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT 1 FROM habit_user u WHERE u.email = :email")
+                             .bind("email", email)
+                             .map(row -> Boolean.TRUE)
+                             .first()
+                             .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static UserDTO toDTO(Readable row) {
+        return new UserDTO(
+                row.get("email", String.class),
+                row.get("username", String.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("age", Integer.class),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.repository.projection.UserHabitRow;
+
+import java.util.function.Consumer;
+
+public interface UserExportRepository {
+
+    long streamUsersWithHabits(int fetchSize, Consumer<UserHabitRow> rows);
+}
@@ -0,0 +1,103 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.repository.projection.UserHabitRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+class UserExportRepositoryImpl implements UserExportRepository {
+    // Rows of one user are adjacent, the join walks the primary key of users and the (user_id, name) index of habits
+    private static final String USERS_WITH_HABITS_SQL =
+            "SELECT u.email, u.username, u.first_name, u.last_name, u.age, " +
+            "h.name, h.habit_frequency, h.start_date, h.end_date, h.reminder, h.current_streak, h.longest_streak " +
+            "FROM habit_user u LEFT JOIN habit h ON h.user_id = u.id " +
+            "ORDER BY u.id, h.name";
+    // Connector/J buffers the whole result set unless the fetch size is Integer.MIN_VALUE, which streams it row by row
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean rowStreamingDriver;
+
+    UserExportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowStreamingDriver = isRowStreamingDriver(jdbcTemplate.getDataSource());
+    }
+
+    // Rows are read through a forward-only cursor and handed over one at a time, at most one fetch window is held by the driver
+    @Override
+    @Transactional(readOnly = true)
+    public long streamUsersWithHabits(int fetchSize, Consumer<UserHabitRow> rows) {
+        RowCounter rowCounter = new RowCounter(rows);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(USERS_WITH_HABITS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(rowStreamingDriver ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+            return statement;
+        }, rowCounter);
+
+        return rowCounter.count;
+    }
+
+    private static UserHabitRow mapRow(ResultSet resultSet) throws SQLException {
+        String frequency = resultSet.getString("habit_frequency");
+
+        return new UserHabitRow(
+                resultSet.getString("email"),
+                resultSet.getString("username"),
+                resultSet.getString("first_name"),
+                resultSet.getString("last_name"),
+                resultSet.getObject("age", Integer.class),
+                resultSet.getString("name"),
+                frequency == null ? null : HabitFrequency.valueOf(frequency),
+                toLocalDate(resultSet.getDate("start_date")),
+                toLocalDate(resultSet.getDate("end_date")),
+                resultSet.getObject("reminder", Boolean.class),
+                resultSet.getObject("current_streak", Integer.class),
+                resultSet.getObject("longest_streak", Integer.class)
+        );
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static boolean isRowStreamingDriver(DataSource dataSource) {
+        String databaseName;
+        try {
+            databaseName = JdbcUtils.commonDatabaseName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName)
+            );
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Database product cannot be resolved for exports", e);
+        }
+
+        return "MySQL".equals(databaseName);
+    }
+
+    private static final class RowCounter implements RowCallbackHandler {
+        private final Consumer<UserHabitRow> rows;
+        private long count;
+
+        private RowCounter(Consumer<UserHabitRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            rows.accept(mapRow(resultSet));
+            count++;
+        }
+    }
+}
@@ -1,14 +1,40 @@
 package io.github.ciamcioo.habit_builder.repository;
 
 import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.projection.GroupCount;
+import io.github.ciamcioo.habit_builder.repository.projection.UserKeys;
+import io.github.ciamcioo.habit_builder.repository.projection.UserStatsRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserSearchRepository, BulkInsertRepository<User>, UserExportRepository {
 
     Optional<User> findUserByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.UserKeys(u.email, u.username) " +
+           "FROM User u WHERE u.email IN :emails OR u.username IN :usernames")
+    List<UserKeys> findExistingKeys(@Param("emails") Collection<String> emails, @Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.GroupCount(u.age, COUNT(u)) " +
+           "FROM User u GROUP BY u.age")
+    List<GroupCount<Integer>> countByAge();
+
+    // Users without habits are kept by the outer join and land in the zero bucket
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.GroupCount(t.habitCount, COUNT(*)) " +
+           "FROM (SELECT COUNT(h.uuid) AS habitCount FROM User u LEFT JOIN u.userHabits h GROUP BY u.id) t " +
+           "GROUP BY t.habitCount")
+    List<GroupCount<Long>> countUsersByHabitCount();
+
+    @Query("SELECT new io.github.ciamcioo.habit_builder.repository.projection.UserStatsRow(u.id, u.age) FROM User u")
+    List<UserStatsRow> findStatsRows();
 }
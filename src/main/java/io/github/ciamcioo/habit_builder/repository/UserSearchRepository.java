@@ -0,0 +1,12 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    List<UserDTO> searchUsers(UserSearchCriteria criteria, String afterEmail, int limit);
+
+}
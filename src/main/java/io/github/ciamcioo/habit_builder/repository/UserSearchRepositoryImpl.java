@@ -0,0 +1,75 @@
+package io.github.ciamcioo.habit_builder.repository;
+
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class UserSearchRepositoryImpl implements UserSearchRepository {
+    private static final char LIKE_ESCAPE_CHARACTER = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserDTO> searchUsers(UserSearchCriteria criteria, String afterEmail, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserDTO> query = criteriaBuilder.createQuery(UserDTO.class);
+        Root<User> user = query.from(User.class);
+
+        query.select(criteriaBuilder.construct(
+                     UserDTO.class,
+                     user.get("email"),
+                     user.get("username"),
+                     user.get("firstName"),
+                     user.get("lastName"),
+                     user.get("age")
+             ))
+             .where(buildPredicates(criteriaBuilder, user, criteria, afterEmail))
+             .orderBy(criteriaBuilder.asc(user.get("email")));
+
+        return entityManager.createQuery(query)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+
+    private Predicate[] buildPredicates(CriteriaBuilder criteriaBuilder, Root<User> user, UserSearchCriteria criteria, String afterEmail) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (afterEmail != null) {
+            predicates.add(criteriaBuilder.greaterThan(user.get("email"), afterEmail));
+        }
+
+        if (criteria.usernamePrefix() != null) {
+            predicates.add(criteriaBuilder.like(user.get("username"), escapeLikePattern(criteria.usernamePrefix()) + "%", LIKE_ESCAPE_CHARACTER));
+        }
+
+        if (criteria.minAge() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(user.get("age"), criteria.minAge()));
+        }
+
+        if (criteria.maxAge() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(user.get("age"), criteria.maxAge()));
+        }
+
+        if (criteria.emailDomain() != null) {
+            predicates.add(criteriaBuilder.equal(user.get("emailDomain"), criteria.emailDomain()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+public record GroupCount<K>(
+        K key,
+        long count
+) {
+
+}
@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import java.util.UUID;
+
+public record HabitKeys(
+        UUID id,
+        String name
+) {
+
+}
@@ -0,0 +1,16 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record HabitReminder(
+        UUID id,
+        String name,
+        HabitFrequency frequency,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+}
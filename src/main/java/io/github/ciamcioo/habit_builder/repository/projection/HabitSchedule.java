@@ -0,0 +1,15 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record HabitSchedule(
+        UUID id,
+        HabitFrequency frequency,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+}
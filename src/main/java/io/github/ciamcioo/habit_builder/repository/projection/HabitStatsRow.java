@@ -0,0 +1,14 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record HabitStatsRow(
+        UUID userId,
+        HabitFrequency frequency,
+        LocalDate endDate
+) {
+
+}
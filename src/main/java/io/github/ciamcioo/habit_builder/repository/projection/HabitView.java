@@ -0,0 +1,21 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record HabitView(
+        UUID id,
+        String name,
+        HabitFrequency frequency,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean reminder,
+        int currentStreak,
+        int longestStreak,
+        LocalDate lastStreakPeriod,
+        Long version
+) {
+
+}
@@ -0,0 +1,23 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.LocalDate;
+
+// One row of the users and habits outer join, the habit columns are null for a user without habits
+public record UserHabitRow(
+        String email,
+        String username,
+        String firstName,
+        String lastName,
+        Integer age,
+        String habitName,
+        HabitFrequency frequency,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean reminder,
+        Integer currentStreak,
+        Integer longestStreak
+) {
+
+}
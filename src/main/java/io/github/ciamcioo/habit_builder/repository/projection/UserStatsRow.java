@@ -0,0 +1,10 @@
+package io.github.ciamcioo.habit_builder.repository.projection;
+
+import java.util.UUID;
+
+public record UserStatsRow(
+        UUID id,
+        Integer age
+) {
+
+}
@@ -0,0 +1,139 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
+import io.github.ciamcioo.habit_builder.repository.HabitCheckInRepository;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitSchedule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.IntStream;
+
+@Service
+public class CheckInManagementService implements CheckInService {
+    private static final String HABIT_NOT_FOUND_MESSAGE_FORMAT = "Habit with given name: %s not found";
+    private static final String FUTURE_CHECK_IN_MESSAGE_FORMAT = "Check-in date %s cannot be in the future";
+    private static final String OUT_OF_PERIOD_MESSAGE_FORMAT   = "Check-in date %s is outside of the habit period";
+
+    private final HabitRepository habitRepository;
+    private final HabitCheckInRepository checkInRepository;
+    private final StreakService streakService;
+    private final ImportProperties importProperties;
+    private final Clock clock;
+
+    @Autowired
+    public CheckInManagementService(HabitRepository habitRepository,
+                                    HabitCheckInRepository checkInRepository,
+                                    StreakService streakService,
+                                    ImportProperties importProperties,
+                                    Clock clock) {
+        this.habitRepository = habitRepository;
+        this.checkInRepository = checkInRepository;
+        this.streakService = streakService;
+        this.importProperties = importProperties;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, key = "#habitName")
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public ImportReportDTO checkIn(String habitName, List<LocalDate> dates) {
+        HabitSchedule schedule = findSchedule(habitName);
+        List<LocalDate> requestedDates = dates.isEmpty() ? List.of(LocalDate.now(clock)) : dates;
+        requestedDates.forEach(date -> validateCheckInDate(schedule, date));
+
+        ImportStatus[] statuses = new ImportStatus[requestedDates.size()];
+        Set<LocalDate> uniqueDates = new HashSet<>();
+        List<Integer> uniqueDateIndexes = new ArrayList<>();
+
+        for (int index = 0; index < requestedDates.size(); index++) {
+            if (uniqueDates.add(requestedDates.get(index))) {
+                uniqueDateIndexes.add(index);
+            } else {
+                statuses[index] = ImportStatus.DUPLICATE;
+            }
+        }
+
+        Set<LocalDate> insertedDates = new HashSet<>();
+        for (List<Integer> chunk : Chunks.of(uniqueDateIndexes, importProperties.chunkSize())) {
+            insertedDates.addAll(checkInRepository.insertMissing(
+                    schedule.id(),
+                    chunk.stream().map(requestedDates::get).toList()
+            ));
+
+            for (int index : chunk) {
+                statuses[index] = insertedDates.contains(requestedDates.get(index)) ? ImportStatus.CREATED : ImportStatus.ALREADY_EXISTS;
+            }
+        }
+
+        // Only newly inserted check-ins move the streak, so repeated requests leave it untouched
+        streakService.recordCheckIns(schedule.id(), List.copyOf(insertedDates));
+
+        return ImportReportDTO.of(
+                IntStream.range(0, requestedDates.size())
+                         .mapToObj(index -> new ImportResultDTO(requestedDates.get(index).toString(), statuses[index]))
+                         .toList()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EnableMethodLogging
+    @EnableExceptionLogging
+    public List<LocalDate> getCheckIns(String habitName, LocalDate from, LocalDate to) {
+        HabitSchedule schedule = findSchedule(habitName);
+
+        LocalDate resolvedFrom = from != null ? from : Objects.requireNonNullElse(schedule.startDate(), LocalDate.EPOCH);
+        LocalDate resolvedTo = to != null ? to : LocalDate.now(clock);
+
+        if (resolvedFrom.isAfter(resolvedTo)) {
+            throw new IllegalArgumentException("Beginning of the check-in range cannot be after its end");
+        }
+
+        return checkInRepository.findDates(schedule.id(), resolvedFrom, resolvedTo);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, key = "#habitName")
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public void deleteCheckIn(String habitName, LocalDate date) {
+        HabitSchedule schedule = findSchedule(habitName);
+
+        if (checkInRepository.deleteCheckIn(schedule.id(), date) > 0) {
+            streakService.rebuildStreak(schedule.id());
+        }
+    }
+
+    private HabitSchedule findSchedule(String habitName) {
+        return habitRepository.findScheduleByName(habitName)
+                              .orElseThrow(() -> new HabitNotFoundException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, habitName)));
+    }
+
+    private void validateCheckInDate(HabitSchedule schedule, LocalDate date) {
+        if (date.isAfter(LocalDate.now(clock))) {
+            throw new IllegalArgumentException(String.format(FUTURE_CHECK_IN_MESSAGE_FORMAT, date));
+        }
+
+        if ((schedule.startDate() != null && date.isBefore(schedule.startDate())) ||
+            (schedule.endDate() != null && date.isAfter(schedule.endDate()))) {
+            throw new IllegalArgumentException(String.format(OUT_OF_PERIOD_MESSAGE_FORMAT, date));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CheckInService {
+
+    ImportReportDTO checkIn(String habitName, List<LocalDate> dates);
+
+    List<LocalDate> getCheckIns(String habitName, LocalDate from, LocalDate to);
+
+    void deleteCheckIn(String habitName, LocalDate date);
+}
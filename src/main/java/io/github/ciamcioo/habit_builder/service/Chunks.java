@@ -0,0 +1,20 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class Chunks {
+
+    private Chunks() { }
+
+    static <T> List<List<T>> of(List<T> elements, int chunkSize) {
+        int chunkCount = (elements.size() + chunkSize - 1) / chunkSize;
+
+        return IntStream.range(0, chunkCount)
+                        .mapToObj(chunk -> elements.subList(
+                                chunk * chunkSize,
+                                Math.min((chunk + 1) * chunkSize, elements.size())
+                        ))
+                        .toList();
+    }
+}
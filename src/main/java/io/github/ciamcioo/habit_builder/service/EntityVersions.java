@@ -0,0 +1,13 @@
+package io.github.ciamcioo.habit_builder.service;
+
+// Expected versions come from the If-Match header, null means no precondition and ANY stands for "*",
+// which matches every stored version but never a missing entity
+public final class EntityVersions {
+    public static final long ANY = -1L;
+
+    private EntityVersions() { }
+
+    static boolean matches(Long expectedVersion, Long version) {
+        return expectedVersion == null || expectedVersion == ANY || expectedVersion.equals(version);
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.ExportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+// Started with --export[=file] [--export-format=csv] the application writes one export and exits,
+// adding --spring.main.web-application-type=none skips the web server
+@Component
+class ExportCommand implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ExportCommand.class);
+
+    static final String EXPORT_OPTION = "export";
+    static final String FORMAT_OPTION = "export-format";
+
+    private final ExportService exportService;
+    private final ExportProperties exportProperties;
+    private final ConfigurableApplicationContext context;
+
+    ExportCommand(ExportService exportService, ExportProperties exportProperties, ConfigurableApplicationContext context) {
+        this.exportService = exportService;
+        this.exportProperties = exportProperties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(EXPORT_OPTION)) {
+            return;
+        }
+
+        ExportFormat format = singleValue(args, FORMAT_OPTION)
+                .map(value -> ExportFormat.valueOf(value.toUpperCase(Locale.ROOT)))
+                .orElse(exportProperties.format());
+        Path target = singleValue(args, EXPORT_OPTION)
+                .map(Path::of)
+                .orElseGet(() -> exportProperties.directory().resolve(exportService.exportFileName(format)));
+
+        long users = exportService.exportUsersToFile(target, format);
+        log.info("Export finished, {} users written to {}", users, target);
+
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static Optional<String> singleValue(ApplicationArguments args, String option) {
+        List<String> values = args.getOptionValues(option);
+        return values == null || values.isEmpty() || values.getLast().isBlank()
+                ? Optional.empty()
+                : Optional.of(values.getLast());
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.ExportProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// Nightly export for the data warehouse, the default cron "-" keeps it switched off outside of prod
+@Component
+class ExportJob {
+    private static final Logger log = LoggerFactory.getLogger(ExportJob.class);
+
+    private final ExportService exportService;
+    private final ExportProperties exportProperties;
+
+    ExportJob(ExportService exportService, ExportProperties exportProperties) {
+        this.exportService = exportService;
+        this.exportProperties = exportProperties;
+    }
+
+    @Scheduled(cron = "${habit-builder.export.cron:-}")
+    void exportUsers() {
+        Path target = exportProperties.directory().resolve(exportService.exportFileName(exportProperties.format()));
+        long users = exportService.exportUsersToFile(target, exportProperties.format());
+        log.info("Export finished, {} users written to {}", users, target);
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.config.ExportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.UserHabitRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+// Users and habits are written while the cursor is read, nothing but the current row and the gzip buffer is kept in memory
+@Service
+public class ExportManagementService implements ExportService {
+    private static final Logger log = LoggerFactory.getLogger(ExportManagementService.class);
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String PARTIAL_FILE_SUFFIX = ".part";
+    private static final String FILE_NAME_FORMAT = "habit-builder-users-%s.%s.gz";
+    private static final String[] CSV_COLUMNS = {
+            "email", "username", "firstName", "lastName", "age",
+            "habitName", "frequency", "startDate", "endDate", "reminder", "currentStreak", "longestStreak"
+    };
+
+    private final UserRepository userRepository;
+    private final ExportProperties exportProperties;
+    private final Clock clock;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    @Autowired
+    public ExportManagementService(UserRepository userRepository,
+                                   ExportProperties exportProperties,
+                                   ObjectMapper objectMapper,
+                                   Clock clock) {
+        this.userRepository = userRepository;
+        this.exportProperties = exportProperties;
+        this.clock = clock;
+        this.ndjsonWriter = objectMapper.writer()
+                                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.csvWriter = new CsvMapper().writer(CsvSchema.builder()
+                                                         .addColumns(Arrays.asList(CSV_COLUMNS), CsvSchema.ColumnType.STRING)
+                                                         .setUseHeader(true)
+                                                         .build())
+                                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public long exportUsers(OutputStream output, ExportFormat format) {
+        try {
+            GZIPOutputStream gzipOutput = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+            UserRowWriter writer = format == ExportFormat.NDJSON ? new NdjsonUserRowWriter(gzipOutput) : new CsvUserRowWriter(gzipOutput);
+
+            long rows = userRepository.streamUsersWithHabits(exportProperties.fetchSize(), writer::accept);
+            writer.finish();
+            gzipOutput.finish();
+
+            log.info("Exported {} users with {} rows as {}", writer.users, rows, format);
+            return writer.users;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The export is written next to the target and moved over it once complete, readers never see a partial file
+    @Override
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public long exportUsersToFile(Path target, ExportFormat format) {
+        Path partialFile = target.resolveSibling(target.getFileName() + PARTIAL_FILE_SUFFIX);
+
+        try {
+            Path directory = target.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+
+            long users;
+            try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                users = exportUsers(Channels.newOutputStream(channel), format);
+                channel.force(true);
+            }
+
+            Files.move(partialFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return users;
+        } catch (IOException e) {
+            deletePartialFile(partialFile, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deletePartialFile(partialFile, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String exportFileName(ExportFormat format) {
+        return String.format(FILE_NAME_FORMAT, LocalDate.now(clock), format.name().toLowerCase(Locale.ROOT));
+    }
+
+    private void deletePartialFile(Path partialFile, Exception cause) {
+        try {
+            Files.deleteIfExists(partialFile);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    // Rows arrive grouped by user, a new email starts the next user
+    private abstract static class UserRowWriter {
+        private String currentEmail;
+        private long users;
+
+        void accept(UserHabitRow row) {
+            try {
+                if (!row.email().equals(currentEmail)) {
+                    if (currentEmail != null) {
+                        endUser();
+                    }
+                    startUser(row);
+                    currentEmail = row.email();
+                    users++;
+                }
+                writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (currentEmail != null) {
+                endUser();
+            }
+            close();
+        }
+
+        abstract void startUser(UserHabitRow row) throws IOException;
+
+        abstract void writeRow(UserHabitRow row) throws IOException;
+
+        abstract void endUser() throws IOException;
+
+        abstract void close() throws IOException;
+    }
+
+    // One line per user with the habits nested in an array
+    private final class NdjsonUserRowWriter extends UserRowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonUserRowWriter(OutputStream output) throws IOException {
+            this.generator = ndjsonWriter.createGenerator(output);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void startUser(UserHabitRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("email", row.email());
+            generator.writeStringField("username", row.username());
+            generator.writeStringField("firstName", row.firstName());
+            generator.writeStringField("lastName", row.lastName());
+            writeNumberField("age", row.age());
+            generator.writeArrayFieldStart("habits");
+        }
+
+        @Override
+        void writeRow(UserHabitRow row) throws IOException {
+            if (row.habitName() == null) {
+                return;
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("name", row.habitName());
+            generator.writeStringField("frequency", row.frequency().name());
+            generator.writeStringField("startDate", toText(row.startDate()));
+            generator.writeStringField("endDate", toText(row.endDate()));
+            if (row.reminder() != null) {
+                generator.writeBooleanField("reminder", row.reminder());
+            }
+            writeNumberField("currentStreak", row.currentStreak());
+            writeNumberField("longestStreak", row.longestStreak());
+            generator.writeEndObject();
+        }
+
+        @Override
+        void endUser() throws IOException {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw(LINE_SEPARATOR);
+        }
+
+        @Override
+        void close() throws IOException {
+            generator.close();
+        }
+
+        private void writeNumberField(String name, Integer value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(name, value);
+            }
+        }
+    }
+
+    // One row per habit with the user columns repeated, a user without habits keeps a row with empty habit columns
+    private final class CsvUserRowWriter extends UserRowWriter {
+        private final SequenceWriter sequenceWriter;
+
+        private CsvUserRowWriter(OutputStream output) throws IOException {
+            this.sequenceWriter = csvWriter.writeValues(output);
+        }
+
+        @Override
+        void startUser(UserHabitRow row) {
+        }
+
+        @Override
+        void writeRow(UserHabitRow row) throws IOException {
+            sequenceWriter.write(new String[] {
+                    row.email(), row.username(), row.firstName(), row.lastName(), toText(row.age()),
+                    row.habitName(), toText(row.frequency()), toText(row.startDate()), toText(row.endDate()),
+                    toText(row.reminder()), toText(row.currentStreak()), toText(row.longestStreak())
+            });
+        }
+
+        @Override
+        void endUser() {
+        }
+
+        @Override
+        void close() throws IOException {
+            sequenceWriter.close();
+        }
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
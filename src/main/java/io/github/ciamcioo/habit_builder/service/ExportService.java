@@ -0,0 +1,15 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+public interface ExportService {
+
+    long exportUsers(OutputStream output, ExportFormat format);
+
+    long exportUsersToFile(Path target, ExportFormat format);
+
+    String exportFileName(ExportFormat format);
+}
@@ -0,0 +1,167 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ImportFormat;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportLineResultDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Records are read one at a time from the request body and imported in chunks, each chunk in its own transaction,
+// so only one chunk of habits is held in memory no matter how large the body is
+@Service
+public class HabitImportManagementService implements HabitImportService {
+    private static final String MALFORMED_RECORD_MESSAGE_FORMAT = "Malformed record, import stopped: %s";
+    private static final String EMPTY_RECORD_MESSAGE            = "Record is empty";
+    private static final String CHUNK_FAILED_MESSAGE_FORMAT     = "Import of the chunk failed and was rolled back: %s";
+
+    private final HabitService habitService;
+    private final Validator validator;
+    private final ImportProperties importProperties;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    @Autowired
+    public HabitImportManagementService(HabitService habitService,
+                                        Validator validator,
+                                        ImportProperties importProperties,
+                                        ObjectMapper objectMapper) {
+        this.habitService = habitService;
+        this.validator = validator;
+        this.importProperties = importProperties;
+        this.ndjsonReader = objectMapper.readerFor(HabitDTO.class);
+        this.csvReader = CsvMapper.builder()
+                                  .addModule(new JavaTimeModule())
+                                  .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                  .build()
+                                  .readerFor(HabitDTO.class)
+                                  .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    @Override
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public void importHabits(InputStream input, ImportFormat format, Consumer<ImportLineResultDTO> results) {
+        List<ParsedHabit> chunk = new ArrayList<>(importProperties.chunkSize());
+
+        try (MappingIterator<HabitDTO> records = reader(format).readValues(input)) {
+            while (records.hasNextValue()) {
+                long line = currentLine(records);
+
+                try {
+                    HabitDTO habit = records.nextValue();
+                    if (habit == null) {
+                        results.accept(new ImportLineResultDTO(line, null, ImportStatus.INVALID, EMPTY_RECORD_MESSAGE));
+                        continue;
+                    }
+
+                    String violations = validate(habit);
+
+                    if (violations != null) {
+                        results.accept(new ImportLineResultDTO(line, habit.name(), ImportStatus.INVALID, violations));
+                        continue;
+                    }
+
+                    chunk.add(new ParsedHabit(line, habit));
+                    if (chunk.size() == importProperties.chunkSize()) {
+                        importChunk(chunk, results);
+                    }
+                } catch (JsonMappingException e) {
+                    if (e.getCause() instanceof JsonParseException parseException) {
+                        throw parseException;
+                    }
+
+                    // A record of the wrong shape is skipped, the iterator continues with the next one
+                    results.accept(new ImportLineResultDTO(line, null, ImportStatus.INVALID, e.getOriginalMessage()));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Broken syntax leaves no reliable start of the next record
+            importChunk(chunk, results);
+            results.accept(new ImportLineResultDTO(
+                    e.getLocation() != null ? e.getLocation().getLineNr() : -1,
+                    null,
+                    ImportStatus.INVALID,
+                    String.format(MALFORMED_RECORD_MESSAGE_FORMAT, e.getOriginalMessage())
+            ));
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        importChunk(chunk, results);
+    }
+
+    private ObjectReader reader(ImportFormat format) {
+        return switch (format) {
+            case NDJSON -> ndjsonReader;
+            case CSV -> csvReader;
+        };
+    }
+
+    private long currentLine(MappingIterator<HabitDTO> records) {
+        return records.getParser().currentLocation().getLineNr();
+    }
+
+    private String validate(HabitDTO habit) {
+        Set<ConstraintViolation<HabitDTO>> violations = validator.validate(habit);
+
+        return violations.isEmpty()
+               ? null
+               : violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private void importChunk(List<ParsedHabit> chunk, Consumer<ImportLineResultDTO> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ImportResultDTO> chunkResults;
+        try {
+            chunkResults = habitService.importHabits(chunk.stream().map(ParsedHabit::habit).toList())
+                                       .results();
+        } catch (RuntimeException e) {
+            // The chunk's transaction is rolled back as a whole, each of its records is reported so the report stays complete
+            String message = String.format(CHUNK_FAILED_MESSAGE_FORMAT, e.getMessage());
+            chunk.forEach(parsed -> results.accept(new ImportLineResultDTO(parsed.line(), parsed.habit().name(), ImportStatus.INVALID, message)));
+            chunk.clear();
+            return;
+        }
+
+        for (int index = 0; index < chunk.size(); index++) {
+            ImportResultDTO result = chunkResults.get(index);
+            results.accept(new ImportLineResultDTO(chunk.get(index).line(), result.key(), result.status()));
+        }
+
+        chunk.clear();
+    }
+
+    private record ParsedHabit(long line, HabitDTO habit) {
+
+    }
+}
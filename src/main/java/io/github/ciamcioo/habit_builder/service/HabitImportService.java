@@ -0,0 +1,12 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.ImportFormat;
+import io.github.ciamcioo.habit_builder.model.dto.ImportLineResultDTO;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface HabitImportService {
+
+    void importHabits(InputStream input, ImportFormat format, Consumer<ImportLineResultDTO> results);
+}
@@ -1,57 +1,173 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.config.PaginationProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
 import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
 import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.event.HabitChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
 import io.github.ciamcioo.habit_builder.exception.HabitAlreadyExistsException;
 import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.exception.PreconditionFailedException;
+import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
 import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitKeys;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
 
 import io.github.ciamcioo.habit_builder.service.mapper.HabitMapper;
 import jakarta.json.JsonMergePatch;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 public class HabitManagementService implements HabitService{
     private static final String HABIT_NOT_FOUND_MESSAGE_FORMAT     = "Habit with given name: %s not found";
+    private static final String HABIT_ID_NOT_FOUND_MESSAGE_FORMAT  = "Habit with given id: %s not found";
+    private static final String USER_NOT_FOUND_MESSAGE_FORMAT      = "User with given email: %s not found";
     private static final String HABIT_ALREADY_EXIST_MESSAGE_FORMAT = "Habit with given name: %s already exists in database";
+    private static final String DATE_RANGE_PROPERTY                = "dateRangeValid";
+    private static final Set<String> DATE_PROPERTIES               = Set.of("startDate", "endDate");
 
     private final HabitRepository habitRepository;
+    private final UserRepository userRepository;
     private final HabitMapper habitMapper;
     private final MergePatchHelper mergePatchHelper;
+    private final PaginationProperties paginationProperties;
+    private final ImportProperties importProperties;
+    private final StreakService streakService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+    private final Clock clock;
 
     @Autowired
-    public HabitManagementService(HabitRepository habitRepository, HabitMapper habitMapper, MergePatchHelper mergePatchHelper) {
+    public HabitManagementService(HabitRepository habitRepository,
+                                  UserRepository userRepository,
+                                  HabitMapper habitMapper,
+                                  MergePatchHelper mergePatchHelper,
+                                  PaginationProperties paginationProperties,
+                                  ImportProperties importProperties,
+                                  StreakService streakService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CacheManager cacheManager,
+                                  Validator validator,
+                                  Clock clock) {
         this.habitRepository = habitRepository;
+        this.userRepository = userRepository;
         this.habitMapper = habitMapper;
         this.mergePatchHelper = mergePatchHelper;
+        this.paginationProperties = paginationProperties;
+        this.importProperties = importProperties;
+        this.streakService = streakService;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.validator = validator;
+        this.clock = clock;
     }
 
     @Override
+    @Transactional(readOnly = true)
     @EnableMethodLogging
-    public List<HabitDTO> getAllHabits() {
-        List<Habit> persistedHabits = habitRepository.findAll();
+    public CursorPageDTO<HabitDTO> getHabitsPage(String afterName, Integer pageSize) {
+        int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
 
-        return persistedHabits.stream()
-                              .map(habitMapper::toDTO)
-                              .toList();
+        List<HabitDTO> habits = toDTOs(habitRepository.findViewsByNameGreaterThan(
+                afterName != null ? afterName : "",
+                Limit.of(resolvedPageSize + 1)
+        ));
+
+        return CursorPageDTO.of(habits, resolvedPageSize, HabitDTO::name);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EnableMethodLogging
+    @EnableExceptionLogging
+    public CursorPageDTO<HabitDTO> getUserHabitsPage(String email, String afterName, Integer pageSize) {
+        int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
+
+        List<HabitDTO> habits = toDTOs(habitRepository.findViewsByUserEmailAndNameGreaterThan(
+                email,
+                afterName != null ? afterName : "",
+                Limit.of(resolvedPageSize + 1)
+        ));
+
+        // Only an empty page can't tell a missing user apart from a user without habits
+        if (habits.isEmpty() && !userRepository.existsByEmail(email)) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE_FORMAT, email));
+        }
+
+        return CursorPageDTO.of(habits, resolvedPageSize, HabitDTO::name);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EnableMethodCallLogging
+    public void streamAllHabits(Consumer<HabitDTO> consumer) {
+        LocalDate today = LocalDate.now(clock);
+
+        try (Stream<HabitView> habits = habitRepository.streamAllHabits()) {
+            habits.map(habit -> toDTO(habit, today)).forEach(consumer);
+        }
     }
 
+    // The cache holds the stored streak, the current streak depends on today's date and is recomputed on every read
     @Override
     @EnableMethodLogging
     @EnableExceptionLogging
     public HabitDTO getHabitByName(String name) {
-        Habit habit = habitRepository.findHabitByName(name)
-                                     .orElseThrow(
-                                             () -> new HabitNotFoundException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, name))
-                                     );
+        Cache cache = cacheManager.getCache(CacheConfiguration.HABITS_CACHE);
+        StoredHabit storedHabit = cache != null ? cache.get(name, StoredHabit.class) : null;
 
-        return habitMapper.toDTO(habit) ;
+        if (storedHabit == null) {
+            Habit habit = habitRepository.findHabitByName(name)
+                                         .orElseThrow(
+                                                 () -> new HabitNotFoundException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, name))
+                                         );
+
+            storedHabit = new StoredHabit(habitMapper.toDTO(habit), habit.getLastStreakPeriod());
+            if (cache != null) {
+                cache.put(name, storedHabit);
+            }
+        }
+
+        return withCurrentStreak(storedHabit.habit(), storedHabit.lastStreakPeriod(), LocalDate.now(clock));
+    }
+
+    // Habits are cached by name, lookups by id go straight to the primary key index
+    @Override
+    @EnableMethodLogging
+    @EnableExceptionLogging
+    public HabitDTO getHabitById(UUID id) {
+        return toDTO(findHabitById(id));
     }
 
     @Override
@@ -64,76 +180,325 @@ public class HabitManagementService implements HabitService{
 
         Habit record = habitMapper.toEntity(habit);
         habitRepository.saveAndFlush(record);
+        publishHabitChanged(record, ChangeType.CREATED);
 
         return habit.name();
     }
 
     @Override
+    @Transactional
     @EnableMethodLogging
     public List<String> addHabits(HabitDTO... habitDTOs) {
-        Set<HabitDTO> uniqueHabitDTOs = new HashSet<>(List.of(habitDTOs));
+        return importHabits(List.of(habitDTOs)).createdKeys();
+    }
+
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    public ImportReportDTO importHabits(List<HabitDTO> habitDTOs) {
+        ImportStatus[] statuses = new ImportStatus[habitDTOs.size()];
+        Set<String> requestedNames = new HashSet<>();
+        List<Integer> uniqueHabitIndexes = new ArrayList<>();
+
+        for (int index = 0; index < habitDTOs.size(); index++) {
+            if (requestedNames.add(habitDTOs.get(index).name())) {
+                uniqueHabitIndexes.add(index);
+            } else {
+                statuses[index] = ImportStatus.DUPLICATE;
+            }
+        }
+
+        List<UUID> insertedHabitIds = new ArrayList<>();
+        for (List<Integer> chunk : Chunks.of(uniqueHabitIndexes, importProperties.chunkSize())) {
+            Set<String> existingNames = habitRepository.findExistingNames(
+                    chunk.stream().map(index -> habitDTOs.get(index).name()).toList()
+            );
 
-        List<Habit> habitsToSave = uniqueHabitDTOs.stream()
-                                                  .filter(habitDto ->
-                                                      !habitRepository.existsByName(habitDto.name())
-                                                  )
-                                                  .map(habitMapper::toEntity)
-                                                  .toList();
+            List<Habit> habitsToInsert = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                HabitDTO habitDTO = habitDTOs.get(index);
 
-        habitRepository.saveAllAndFlush(habitsToSave);
+                if (existingNames.contains(habitDTO.name())) {
+                    statuses[index] = ImportStatus.ALREADY_EXISTS;
+                } else {
+                    statuses[index] = ImportStatus.CREATED;
+                    habitsToInsert.add(habitMapper.toEntity(habitDTO));
+                }
+            }
 
-        return habitsToSave.stream().map(Habit::getName).toList();
+            if (!habitsToInsert.isEmpty()) {
+                habitRepository.insertAll(habitsToInsert);
+                habitsToInsert.forEach(habit -> insertedHabitIds.add(habit.getUuid()));
+            }
+        }
+
+        if (!insertedHabitIds.isEmpty()) {
+            eventPublisher.publishEvent(new HabitChangedEvent(insertedHabitIds, ChangeType.CREATED));
+        }
+
+        return ImportReportDTO.of(
+                IntStream.range(0, habitDTOs.size())
+                         .mapToObj(index -> new ImportResultDTO(habitDTOs.get(index).name(), statuses[index]))
+                         .toList()
+        );
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, key = "#habitName"),
+            @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, key = "#updatedHabit.name()")
+    })
     @EnableMethodLogging
     @EnableExceptionLogging
-    public HabitDTO updateHabit(String habitName, HabitDTO updatedHabit) {
+    public HabitDTO updateHabit(String habitName, HabitDTO updatedHabit, Long expectedVersion) {
         Optional<Habit> recordOpt = habitRepository.findHabitByName(habitName);
 
         if (recordOpt.isEmpty()) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, habitName));
+            }
             addHabit(updatedHabit);
             return updatedHabit;
         }
 
         Habit record = recordOpt.get();
+        checkVersion(record, expectedVersion);
+        applyUpdate(record, updatedHabit);
 
-        habitRepository.findHabitByName(updatedHabit.name())
-                       .ifPresent(ex -> {
-                           throw new HabitAlreadyExistsException();
-                       });
+        return toDTO(record);
+    }
 
-        record.setName(updatedHabit.name());
-        record.setFrequency(updatedHabit.frequency());
-        record.setStartDate(updatedHabit.startDate());
-        record.setEndDate(updatedHabit.endDate());
-        record.setReminder(updatedHabit.reminder());
+    @Override
+    @Transactional
+    @EnableMethodLogging
+    @EnableExceptionLogging
+    public HabitDTO updateHabitById(UUID id, HabitDTO updatedHabit, Long expectedVersion) {
+        Habit record = findHabitById(id);
+        String previousName = record.getName();
 
-        habitRepository.saveAndFlush(record);
+        checkVersion(record, expectedVersion);
+        applyUpdate(record, updatedHabit);
+        evictHabits(previousName, updatedHabit.name());
 
-        return updatedHabit;
+        return toDTO(record);
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, key = "#habitName")
     @EnableMethodLogging
     @EnableExceptionLogging
-    public HabitDTO partialHabitUpdate(String habitName, JsonMergePatch fieldsToUpdate) {
+    public HabitDTO partialHabitUpdate(String habitName, JsonMergePatch fieldsToUpdate, Long expectedVersion) {
         Habit habit = habitRepository.findHabitByName(habitName)
                                      .orElseThrow(HabitNotFoundException::new);
 
-        habit = mergePatchHelper.mergePatch(fieldsToUpdate, habit, Habit.class);
+        checkVersion(habit, expectedVersion);
+        String previousName = habit.getName();
+        HabitFrequency previousFrequency = habit.getFrequency();
 
-        return habitMapper.toDTO(habit);
+        // Patch is applied onto the managed entity and checked before the flush, which increments the version returned in the ETag
+        mergePatchHelper.mergePatch(fieldsToUpdate, habit, Habit.class);
+        validatePatchedHabit(habit, fieldsToUpdate.toJsonValue().asJsonObject().keySet());
+        if (!Objects.equals(previousName, habit.getName()) && habitRepository.existsByNameWithoutFlush(habit.getName())) {
+            throw new HabitAlreadyExistsException(String.format(HABIT_ALREADY_EXIST_MESSAGE_FORMAT, habit.getName()));
+        }
+        habitRepository.flush();
+        rebuildStreakOnFrequencyChange(habit, previousFrequency);
+        publishHabitChanged(habit, ChangeType.PATCHED);
+
+        return toDTO(habit);
     }
 
     @Override
+    @Transactional
     @EnableMethodCallLogging
     @EnableExceptionLogging
-    public void deleteHabit(String habitName) {
+    public void deleteHabit(String habitName, Long expectedVersion) {
         Habit habit = habitRepository.findHabitByName(habitName)
                                      .orElseThrow(() -> new HabitNotFoundException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, habitName)));
 
+        checkVersion(habit, expectedVersion);
+        delete(habit);
+        evictHabits(habitName);
+    }
+
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public void deleteHabitById(UUID id, Long expectedVersion) {
+        Habit habit = findHabitById(id);
+
+        checkVersion(habit, expectedVersion);
+        delete(habit);
+        evictHabits(habit.getName());
+    }
+
+    // Every chunk of names costs one select of the keys and one set-based delete, no matter how many habits it matches
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public List<String> deleteHabits(List<String> habitNames) {
+        List<String> uniqueNames = habitNames.stream().filter(Objects::nonNull).distinct().toList();
+        List<HabitKeys> deletedHabits = new ArrayList<>();
+
+        for (List<String> chunk : Chunks.of(uniqueNames, importProperties.chunkSize())) {
+            List<HabitKeys> deletedChunk = habitRepository.findKeysByNameIn(chunk);
+
+            if (!deletedChunk.isEmpty()) {
+                habitRepository.deleteAllByNameIn(chunk);
+                deletedHabits.addAll(deletedChunk);
+            }
+        }
+
+        if (!deletedHabits.isEmpty()) {
+            afterDelete(deletedHabits);
+        }
+        return deletedHabits.stream().map(HabitKeys::name).toList();
+    }
+
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    @EnableExceptionLogging
+    public void deleteUserHabits(UUID userId) {
+        List<HabitKeys> deletedHabits = habitRepository.findKeysByUserId(userId);
+
+        if (!deletedHabits.isEmpty()) {
+            habitRepository.deleteAllByUserId(userId);
+            afterDelete(deletedHabits);
+        }
+    }
+
+    private Habit findHabitById(UUID id) {
+        return habitRepository.findById(id)
+                              .orElseThrow(() -> new HabitNotFoundException(String.format(HABIT_ID_NOT_FOUND_MESSAGE_FORMAT, id)));
+    }
+
+    // The version read here is also part of the UPDATE/DELETE condition, so a write committed in between still fails
+    private void checkVersion(Habit habit, Long expectedVersion) {
+        if (!EntityVersions.matches(expectedVersion, habit.getVersion())) {
+            throw new PreconditionFailedException();
+        }
+    }
+
+    private void applyUpdate(Habit record, HabitDTO updatedHabit) {
+        HabitFrequency previousFrequency = record.getFrequency();
+
+        // Keeping the current name is not a conflict
+        if (!updatedHabit.name().equals(record.getName())) {
+            habitRepository.findHabitByName(updatedHabit.name())
+                           .ifPresent(ex -> {
+                               throw new HabitAlreadyExistsException();
+                           });
+        }
+
+        record.setName(updatedHabit.name());
+        record.setFrequency(updatedHabit.frequency());
+        record.setStartDate(updatedHabit.startDate());
+        record.setEndDate(updatedHabit.endDate());
+        record.setReminder(updatedHabit.reminder());
+
+        habitRepository.saveAndFlush(record);
+        rebuildStreakOnFrequencyChange(record, previousFrequency);
+        publishHabitChanged(record, ChangeType.UPDATED);
+    }
+
+    // Only the constraints of the patched fields are checked, a habit that started in the past can still be patched
+    private void validatePatchedHabit(Habit habit, Set<String> patchedFields) {
+        String violations = validator.validate(habitMapper.toDTO(habit))
+                                     .stream()
+                                     .filter(violation -> isPatched(violation.getPropertyPath().toString(), patchedFields))
+                                     .map(ConstraintViolation::getMessage)
+                                     .sorted()
+                                     .collect(Collectors.joining("; "));
+
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+    }
+
+    private static boolean isPatched(String property, Set<String> patchedFields) {
+        if (DATE_RANGE_PROPERTY.equals(property)) {
+            return patchedFields.stream().anyMatch(DATE_PROPERTIES::contains);
+        }
+        return patchedFields.contains(property);
+    }
+
+    private void delete(Habit habit) {
         habitRepository.delete(habit);
         habitRepository.flush();
+
+        if (habit.getUuid() != null) {
+            eventPublisher.publishEvent(new HabitDeletedEvent(List.of(habit.getUuid())));
+        }
+    }
+
+    // One event carries every deleted habit, listeners handle a bulk delete as a single change
+    private void afterDelete(List<HabitKeys> deletedHabits) {
+        evictHabits(deletedHabits.stream().map(HabitKeys::name).toArray(String[]::new));
+        eventPublisher.publishEvent(new HabitDeletedEvent(deletedHabits.stream().map(HabitKeys::id).toList()));
+    }
+
+    // Operations addressed by id don't know the cached name upfront, so they evict it once the habit is loaded
+    private void evictHabits(String... names) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.HABITS_CACHE);
+
+        if (cache != null) {
+            Arrays.stream(names).filter(Objects::nonNull).forEach(cache::evict);
+        }
+    }
+
+    // Streak periods depend on the frequency, so the stored streak is recomputed from the check-in history
+    private void rebuildStreakOnFrequencyChange(Habit habit, HabitFrequency previousFrequency) {
+        if (habit.getUuid() != null && previousFrequency != habit.getFrequency()) {
+            streakService.rebuildStreak(habit.getUuid());
+        }
+    }
+
+    private void publishHabitChanged(Habit habit, ChangeType changeType) {
+        if (habit != null && habit.getUuid() != null) {
+            eventPublisher.publishEvent(new HabitChangedEvent(List.of(habit.getUuid()), changeType));
+        }
+    }
+
+    private List<HabitDTO> toDTOs(List<HabitView> habits) {
+        LocalDate today = LocalDate.now(clock);
+
+        return habits.stream()
+                     .map(habit -> toDTO(habit, today))
+                     .toList();
+    }
+
+    private HabitDTO toDTO(HabitView habit, LocalDate today) {
+        return new HabitDTO(
+                habit.name(),
+                habit.frequency(),
+                habit.startDate(),
+                habit.endDate(),
+                habit.reminder(),
+                Streaks.currentStreak(habit.frequency(), habit.currentStreak(), habit.lastStreakPeriod(), today),
+                habit.longestStreak(),
+                habit.id(),
+                habit.version()
+        );
+    }
+
+    private HabitDTO toDTO(Habit habit) {
+        return withCurrentStreak(habitMapper.toDTO(habit), habit.getLastStreakPeriod(), LocalDate.now(clock));
+    }
+
+    private HabitDTO withCurrentStreak(HabitDTO habitDTO, LocalDate lastStreakPeriod, LocalDate today) {
+        if (habitDTO == null || habitDTO.currentStreak() == null) {
+            return habitDTO;
+        }
+
+        int currentStreak = Streaks.currentStreak(habitDTO.frequency(), habitDTO.currentStreak(), lastStreakPeriod, today);
+        return currentStreak == habitDTO.currentStreak() ? habitDTO : habitDTO.withCurrentStreak(currentStreak);
+    }
+
+    private record StoredHabit(HabitDTO habit, LocalDate lastStreakPeriod) {
     }
 }
@@ -1,22 +1,42 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
 import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
 import jakarta.json.JsonMergePatch;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface HabitService {
 
-    List<HabitDTO> getAllHabits();
+    CursorPageDTO<HabitDTO> getHabitsPage(String afterName, Integer pageSize);
+
+    CursorPageDTO<HabitDTO> getUserHabitsPage(String email, String afterName, Integer pageSize);
+
+    void streamAllHabits(Consumer<HabitDTO> consumer);
 
     HabitDTO getHabitByName(String name);
 
+    HabitDTO getHabitById(UUID id);
+
     String addHabit(HabitDTO habit);
 
     List<String> addHabits(HabitDTO... habitDTOs);
 
-    HabitDTO updateHabit(String habitName, HabitDTO updatedHabit);
+    ImportReportDTO importHabits(List<HabitDTO> habitDTOs);
+
+    HabitDTO updateHabit(String habitName, HabitDTO updatedHabit, Long expectedVersion);
+
+    HabitDTO updateHabitById(UUID id, HabitDTO updatedHabit, Long expectedVersion);
+
+    HabitDTO partialHabitUpdate(String habitName, JsonMergePatch patch, Long expectedVersion);
+
+    void deleteHabit(String name, Long expectedVersion);
+
+    void deleteHabitById(UUID id, Long expectedVersion);
 
-    HabitDTO partialHabitUpdate(String habitName, JsonMergePatch patch);
+    List<String> deleteHabits(List<String> habitNames);
 
-    void deleteHabit(String name);
+    void deleteUserHabits(UUID userId);
 }
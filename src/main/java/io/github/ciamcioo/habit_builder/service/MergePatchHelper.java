@@ -3,22 +3,45 @@ package io.github.ciamcioo.habit_builder.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.github.ciamcioo.habit_builder.exception.ProcessingException;
-import jakarta.json.Json;
-import jakarta.json.JsonReader;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import jakarta.json.JsonMergePatch;
 
-import java.io.StringReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 class MergePatchHelper {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
     private final ObjectMapper objectMapper;
 
+    // Resolved once per entity class, so a PATCH request only walks the patch document
+    private final ClassValue<Map<String, PatchableField>> patchableFields = new ClassValue<>() {
+        @Override
+        protected Map<String, PatchableField> computeValue(Class<?> type) {
+            return resolvePatchableFields(type);
+        }
+    };
+
     @Autowired
     MergePatchHelper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -27,16 +50,22 @@ class MergePatchHelper {
 
     <T> T mergePatch(JsonMergePatch patch, T targetEntity, Class<T> entityClass) {
         validateUpdatedEntity(targetEntity, entityClass);
-        String targetEntityAsString = convertTargetToString(targetEntity);
+        JsonValue patchValue = patch.toJsonValue();
 
-        try(JsonReader jsonReader = Json.createReader(new StringReader(targetEntityAsString))) {
-            JsonValue targetJsonValue = jsonReader.readValue();
-            JsonValue updatedTargetJsonValue = patch.apply(targetJsonValue);
-            String updateTargetEntityAsString = convertTargetToString(updatedTargetJsonValue);
-            return objectMapper.readValue(updateTargetEntityAsString, entityClass);
-        } catch (JsonProcessingException e) {
+        if (patchValue.getValueType() != JsonValue.ValueType.OBJECT) {
             throw new IllegalArgumentException("Invalid patch object for update!");
         }
+
+        Map<String, PatchableField> fields = patchableFields.get(entityClass);
+        patchValue.asJsonObject().forEach((fieldName, value) -> {
+            PatchableField field = fields.get(fieldName);
+
+            if (field != null) {
+                field.apply(targetEntity, value);
+            }
+        });
+
+        return targetEntity;
     }
 
     private <T> void validateUpdatedEntity(T entity, Class<T> entityClass) {
@@ -49,12 +78,123 @@ class MergePatchHelper {
         }
     }
 
-    private <T> String convertTargetToString(T target) throws ProcessingException {
+    // Only updatable columns can be patched, identifiers, versions and associations are left untouched
+    private Map<String, PatchableField> resolvePatchableFields(Class<?> type) {
+        Map<String, PatchableField> fields = new HashMap<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                Column column = field.getAnnotation(Column.class);
+
+                if (column == null || !column.updatable() || Modifier.isStatic(field.getModifiers()) ||
+                    field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Version.class)) {
+                    continue;
+                }
+
+                fields.putIfAbsent(field.getName(), new PatchableField(
+                        field.getName(),
+                        field.getType().isPrimitive(),
+                        resolveSetter(current, field),
+                        resolveConverter(field.getType())
+                ));
+            }
+        }
+
+        return Map.copyOf(fields);
+    }
+
+    private MethodHandle resolveSetter(Class<?> owner, Field field) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                                .unreflectSetter(field)
+                                .asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Field " + field.getName() + " cannot be patched", e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Function<JsonValue, Object> resolveConverter(Class<?> type) {
+        if (type == String.class) {
+            return value -> ((JsonString) value).getString();
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return this::toBoolean;
+        }
+        if (type == Integer.class || type == int.class) {
+            return value -> ((JsonNumber) value).intValueExact();
+        }
+        if (type == Long.class || type == long.class) {
+            return value -> ((JsonNumber) value).longValueExact();
+        }
+        if (type == Double.class || type == double.class) {
+            return value -> ((JsonNumber) value).doubleValue();
+        }
+        if (type == BigDecimal.class) {
+            return value -> ((JsonNumber) value).bigDecimalValue();
+        }
+        if (type.isEnum()) {
+            return value -> Enum.valueOf((Class<Enum>) type, ((JsonString) value).getString());
+        }
+        if (type == LocalDate.class) {
+            return value -> LocalDate.parse(((JsonString) value).getString());
+        }
+        if (type == LocalDateTime.class) {
+            return value -> LocalDateTime.parse(((JsonString) value).getString());
+        }
+        if (type == UUID.class) {
+            return value -> UUID.fromString(((JsonString) value).getString());
+        }
+
+        return value -> convertWithObjectMapper(value, type);
+    }
+
+    private Boolean toBoolean(JsonValue value) {
+        return switch (value.getValueType()) {
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            default -> throw new ClassCastException("Expected boolean value");
+        };
+    }
+
+    private Object convertWithObjectMapper(JsonValue value, Class<?> type) {
         try {
-            return objectMapper.writeValueAsString(target);
+            return objectMapper.readValue(value.toString(), type);
         } catch (JsonProcessingException e) {
-            throw new ProcessingException("Target cannot be processed to String!");
+            throw new IllegalArgumentException("Invalid patch object for update!");
         }
     }
 
+    private record PatchableField(
+            String name,
+            boolean primitive,
+            MethodHandle setter,
+            Function<JsonValue, Object> converter
+    ) {
+
+        void apply(Object target, JsonValue value) {
+            Object convertedValue = convert(value);
+
+            try {
+                setter.invokeExact(target, convertedValue);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Field " + name + " cannot be patched", e);
+            }
+        }
+
+        private Object convert(JsonValue value) {
+            if (value.getValueType() == JsonValue.ValueType.NULL) {
+                if (primitive) {
+                    throw new IllegalArgumentException("Field " + name + " cannot be set to null!");
+                }
+                return null;
+            }
+
+            try {
+                return converter.apply(value);
+            } catch (ClassCastException | ArithmeticException | IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value of field " + name + " in patch object!");
+            }
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.PaginationProperties;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.repository.ReactiveHabitRepository;
+import io.github.ciamcioo.habit_builder.repository.ReactiveUserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+public class ReactiveReadManagementService implements ReactiveReadService {
+    private static final String HABIT_NOT_FOUND_MESSAGE_FORMAT    = "Habit with given name: %s not found";
+    private static final String HABIT_ID_NOT_FOUND_MESSAGE_FORMAT = "Habit with given id: %s not found";
+    private static final String USER_NOT_FOUND_MESSAGE_FORMAT     = "User with given email: %s not found";
+
+    private final ReactiveHabitRepository habitRepository;
+    private final ReactiveUserRepository userRepository;
+    private final PaginationProperties paginationProperties;
+    private final Clock clock;
+
+    public ReactiveReadManagementService(ReactiveHabitRepository habitRepository,
+                                         ReactiveUserRepository userRepository,
+                                         PaginationProperties paginationProperties,
+                                         Clock clock) {
+        this.habitRepository = habitRepository;
+        this.userRepository = userRepository;
+        this.paginationProperties = paginationProperties;
+        this.clock = clock;
+    }
+
+    @Override
+    public Flux<HabitDTO> streamAllHabits() {
+        return Flux.defer(() -> {
+            LocalDate today = LocalDate.now(clock);
+            return habitRepository.findAllViews().map(habit -> toDTO(habit, today));
+        });
+    }
+
+    @Override
+    public Mono<CursorPageDTO<HabitDTO>> getHabitsPage(String afterName, Integer pageSize) {
+        return Mono.defer(() -> {
+            int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
+
+            return toDTOs(habitRepository.findViewsByNameGreaterThan(afterName != null ? afterName : "", resolvedPageSize + 1))
+                    .map(habits -> CursorPageDTO.of(habits, resolvedPageSize, HabitDTO::name));
+        });
+    }
+
+    @Override
+    public Mono<CursorPageDTO<HabitDTO>> getUserHabitsPage(String email, String afterName, Integer pageSize) {
+        return Mono.defer(() -> {
+            int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
+
+            return toDTOs(habitRepository.findViewsByUserEmailAndNameGreaterThan(email, afterName != null ? afterName : "", resolvedPageSize + 1))
+                    // Only an empty page can't tell a missing user apart from a user without habits
+                    .filterWhen(habits -> habits.isEmpty() ? userRepository.existsByEmail(email) : Mono.just(true))
+                    .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE_FORMAT, email))))
+                    .map(habits -> CursorPageDTO.of(habits, resolvedPageSize, HabitDTO::name));
+        });
+    }
+
+    @Override
+    public Mono<HabitDTO> getHabitByName(String name) {
+        return habitRepository.findViewByName(name)
+                              .map(habit -> toDTO(habit, LocalDate.now(clock)))
+                              .switchIfEmpty(Mono.error(() -> new HabitNotFoundException(String.format(HABIT_NOT_FOUND_MESSAGE_FORMAT, name))));
+    }
+
+    @Override
+    public Mono<HabitDTO> getHabitById(UUID id) {
+        return habitRepository.findViewById(id)
+                              .map(habit -> toDTO(habit, LocalDate.now(clock)))
+                              .switchIfEmpty(Mono.error(() -> new HabitNotFoundException(String.format(HABIT_ID_NOT_FOUND_MESSAGE_FORMAT, id))));
+    }
+
+    @Override
+    public Mono<CursorPageDTO<UserDTO>> getUsersPage(String afterEmail, Integer pageSize) {
+        return Mono.defer(() -> {
+            int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
+
+            return userRepository.findDTOsByEmailGreaterThan(afterEmail != null ? afterEmail : "", resolvedPageSize + 1)
+                                 .collectList()
+                                 .map(users -> CursorPageDTO.of(users, resolvedPageSize, UserDTO::email));
+        });
+    }
+
+    @Override
+    public Mono<UserDTO> getUser(String email) {
+        return userRepository.findDTOByEmail(email)
+                             .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE_FORMAT, email))));
+    }
+
+    private Mono<List<HabitDTO>> toDTOs(Flux<HabitView> habits) {
+        LocalDate today = LocalDate.now(clock);
+        return habits.map(habit -> toDTO(habit, today)).collectList();
+    }
+
+    private HabitDTO toDTO(HabitView habit, LocalDate today) {
+        return new HabitDTO(
+                habit.name(),
+                habit.frequency(),
+                habit.startDate(),
+                habit.endDate(),
+                habit.reminder(),
+                Streaks.currentStreak(habit.frequency(), habit.currentStreak(), habit.lastStreakPeriod(), today),
+                habit.longestStreak(),
+                habit.id(),
+                habit.version()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveReadService {
+
+    Flux<HabitDTO> streamAllHabits();
+
+    Mono<CursorPageDTO<HabitDTO>> getHabitsPage(String afterName, Integer pageSize);
+
+    Mono<CursorPageDTO<HabitDTO>> getUserHabitsPage(String email, String afterName, Integer pageSize);
+
+    Mono<HabitDTO> getHabitByName(String name);
+
+    Mono<HabitDTO> getHabitById(UUID id);
+
+    Mono<CursorPageDTO<UserDTO>> getUsersPage(String afterEmail, Integer pageSize);
+
+    Mono<UserDTO> getUser(String email);
+}
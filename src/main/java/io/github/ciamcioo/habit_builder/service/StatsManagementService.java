@@ -0,0 +1,124 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.StatsProperties;
+import io.github.ciamcioo.habit_builder.model.commons.AgeBucket;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.StatsDTO;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.GroupCount;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStatsRow;
+import io.github.ciamcioo.habit_builder.repository.projection.UserStatsRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class StatsManagementService implements StatsService {
+    private final HabitRepository habitRepository;
+    private final UserRepository userRepository;
+    private final StatsProperties statsProperties;
+    private final Clock clock;
+
+    @Autowired
+    public StatsManagementService(HabitRepository habitRepository,
+                                  UserRepository userRepository,
+                                  StatsProperties statsProperties,
+                                  Clock clock) {
+        this.habitRepository = habitRepository;
+        this.userRepository = userRepository;
+        this.statsProperties = statsProperties;
+        this.clock = clock;
+    }
+
+    // Synchronized caching lets only one request per TTL run the aggregation, concurrent dashboard calls wait for it
+    @Override
+    @EnableMethodLogging
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfiguration.STATS_CACHE, key = "'summary'", sync = true)
+    public StatsDTO getStats() {
+        LocalDate today = LocalDate.now(clock);
+
+        return switch (statsProperties.aggregation()) {
+            case DATABASE -> aggregateInDatabase(today);
+            case PARALLEL -> aggregateInParallel(today);
+        };
+    }
+
+    private StatsDTO aggregateInDatabase(LocalDate today) {
+        Map<AgeBucket, Long> usersByAgeBucket = new EnumMap<>(AgeBucket.class);
+        userRepository.countByAge()
+                      .forEach(ageCount -> usersByAgeBucket.merge(AgeBucket.of(ageCount.key()), ageCount.count(), Long::sum));
+
+        return toStats(
+                toMap(userRepository.countUsersByHabitCount()),
+                toMap(habitRepository.countByFrequency()),
+                habitRepository.countByEndDateBefore(today),
+                usersByAgeBucket
+        );
+    }
+
+    private StatsDTO aggregateInParallel(LocalDate today) {
+        List<UserStatsRow> users = userRepository.findStatsRows();
+        List<HabitStatsRow> habits = habitRepository.findStatsRows();
+
+        Map<UUID, Long> habitsPerUser = habits.parallelStream()
+                                              .filter(habit -> habit.userId() != null)
+                                              .collect(Collectors.groupingByConcurrent(HabitStatsRow::userId, Collectors.counting()));
+
+        return toStats(
+                users.parallelStream()
+                     .collect(Collectors.groupingByConcurrent(user -> habitsPerUser.getOrDefault(user.id(), 0L), Collectors.counting())),
+                habits.parallelStream()
+                      .collect(Collectors.groupingByConcurrent(HabitStatsRow::frequency, Collectors.counting())),
+                habits.parallelStream()
+                      .filter(habit -> habit.endDate() != null && habit.endDate().isBefore(today))
+                      .count(),
+                users.parallelStream()
+                     .collect(Collectors.groupingByConcurrent(user -> AgeBucket.of(user.age()), Collectors.counting()))
+        );
+    }
+
+    private StatsDTO toStats(Map<Long, Long> usersByHabitCount,
+                             Map<HabitFrequency, Long> habitsByFrequency,
+                             long expiredHabits,
+                             Map<AgeBucket, Long> usersByAgeBucket) {
+        long users = usersByHabitCount.values().stream().mapToLong(Long::longValue).sum();
+        long ownedHabits = usersByHabitCount.entrySet().stream().mapToLong(entry -> entry.getKey() * entry.getValue()).sum();
+        long habits = habitsByFrequency.values().stream().mapToLong(Long::longValue).sum();
+
+        return new StatsDTO(
+                users,
+                habits,
+                users == 0 ? 0 : (double) ownedHabits / users,
+                new TreeMap<>(usersByHabitCount),
+                withZeros(HabitFrequency.class, habitsByFrequency),
+                habits - expiredHabits,
+                expiredHabits,
+                withZeros(AgeBucket.class, usersByAgeBucket),
+                clock.instant()
+        );
+    }
+
+    private static <K> Map<K, Long> toMap(List<GroupCount<K>> groupCounts) {
+        Map<K, Long> counts = new HashMap<>();
+        groupCounts.forEach(groupCount -> counts.merge(groupCount.key(), groupCount.count(), Long::sum));
+        return counts;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> withZeros(Class<E> type, Map<E, Long> counts) {
+        Map<E, Long> result = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            result.put(constant, counts.getOrDefault(constant, 0L));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.dto.StatsDTO;
+
+public interface StatsService {
+
+    StatsDTO getStats();
+}
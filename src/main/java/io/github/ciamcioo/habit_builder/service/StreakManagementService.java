@@ -0,0 +1,135 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.StreakProperties;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.repository.HabitCheckInRepository;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStreak;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+public class StreakManagementService implements StreakService {
+    private static final int  MAX_UPDATE_ATTEMPTS = 3;
+    private static final UUID LOWEST_UUID         = new UUID(0L, 0L);
+
+    private final HabitRepository habitRepository;
+    private final HabitCheckInRepository checkInRepository;
+    private final StreakProperties streakProperties;
+
+    @Autowired
+    public StreakManagementService(HabitRepository habitRepository,
+                                   HabitCheckInRepository checkInRepository,
+                                   StreakProperties streakProperties) {
+        this.habitRepository = habitRepository;
+        this.checkInRepository = checkInRepository;
+        this.streakProperties = streakProperties;
+    }
+
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    public void recordCheckIns(UUID habitId, List<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        List<LocalDate> sortedDates = dates.stream().sorted().toList();
+
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            HabitStreak streak = findStreak(habitId);
+            Streaks.State state = new Streaks.State(streak.currentStreak(), streak.longestStreak(), streak.lastStreakPeriod());
+
+            Streaks.State advancedState = state;
+            for (LocalDate date : sortedDates) {
+                advancedState = advancedState != null ? Streaks.advance(advancedState, streak.frequency(), date) : null;
+            }
+
+            if (advancedState == null) {
+                break;
+            }
+            if (advancedState.equals(state) || compareAndSet(habitId, state, advancedState)) {
+                return;
+            }
+        }
+
+        // Back-filled check-ins and lost update races are resolved from the check-in history
+        rebuildStreak(habitId);
+    }
+
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    public void rebuildStreak(UUID habitId) {
+        HabitStreak streak = findStreak(habitId);
+        List<LocalDate> dates = checkInRepository.findAllDatesForShare(habitId);
+
+        Streaks.State state = Streaks.fromHistory(streak.frequency(), dates);
+        habitRepository.setStreak(habitId, state.currentStreak(), state.longestStreak(), state.lastPeriod());
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.HABITS_CACHE, allEntries = true)
+    @EnableMethodLogging
+    public int rebuildAllStreaks() {
+        int updatedStreaks = 0;
+        UUID after = LOWEST_UUID;
+        List<HabitStreak> streaks;
+
+        do {
+            streaks = habitRepository.findStreaksAfter(after, Limit.of(streakProperties.rebuildBatchSize()));
+            if (streaks.isEmpty()) {
+                break;
+            }
+
+            updatedStreaks += rebuildBatch(streaks);
+            after = streaks.getLast().id();
+        } while (streaks.size() == streakProperties.rebuildBatchSize());
+
+        return updatedStreaks;
+    }
+
+    private int rebuildBatch(List<HabitStreak> streaks) {
+        Map<UUID, List<LocalDate>> datesByHabit = new HashMap<>();
+        checkInRepository.findAllByHabitIds(streaks.stream().map(HabitStreak::id).toList())
+                         .forEach(checkIn -> datesByHabit.computeIfAbsent(checkIn.getHabitId(), id -> new ArrayList<>())
+                                                         .add(checkIn.getDate()));
+
+        int updatedStreaks = 0;
+        for (HabitStreak streak : streaks) {
+            Streaks.State storedState = new Streaks.State(streak.currentStreak(), streak.longestStreak(), streak.lastStreakPeriod());
+            Streaks.State rebuiltState = Streaks.fromHistory(streak.frequency(), datesByHabit.getOrDefault(streak.id(), List.of()));
+
+            if (!rebuiltState.equals(storedState)) {
+                habitRepository.setStreak(streak.id(), rebuiltState.currentStreak(), rebuiltState.longestStreak(), rebuiltState.lastPeriod());
+                updatedStreaks++;
+            }
+        }
+        return updatedStreaks;
+    }
+
+    private boolean compareAndSet(UUID habitId, Streaks.State expected, Streaks.State updated) {
+        return habitRepository.compareAndSetStreak(
+                habitId,
+                expected.currentStreak(),
+                expected.lastPeriod(),
+                updated.currentStreak(),
+                updated.longestStreak(),
+                updated.lastPeriod()
+        ) == 1;
+    }
+
+    private HabitStreak findStreak(UUID habitId) {
+        return habitRepository.findStreakForUpdate(habitId)
+                              .orElseThrow(HabitNotFoundException::new);
+    }
+}
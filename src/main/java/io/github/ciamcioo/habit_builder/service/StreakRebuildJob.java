@@ -0,0 +1,24 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Incremental updates never scan the history, the nightly rebuild corrects streaks of habits whose frequency or check-ins changed
+@Component
+class StreakRebuildJob {
+    private static final Logger log = LoggerFactory.getLogger(StreakRebuildJob.class);
+
+    private final StreakService streakService;
+
+    StreakRebuildJob(StreakService streakService) {
+        this.streakService = streakService;
+    }
+
+    @Scheduled(cron = "${habit-builder.streaks.rebuild-cron:0 30 3 * * *}")
+    void rebuildStreaks() {
+        int updatedStreaks = streakService.rebuildAllStreaks();
+        log.info("Streak rebuild finished, {} streaks corrected", updatedStreaks);
+    }
+}
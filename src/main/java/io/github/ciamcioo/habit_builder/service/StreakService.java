@@ -0,0 +1,14 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface StreakService {
+
+    void recordCheckIns(UUID habitId, List<LocalDate> dates);
+
+    void rebuildStreak(UUID habitId);
+
+    int rebuildAllStreaks();
+}
@@ -0,0 +1,69 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+// A streak counts consecutive periods with at least one check-in, the period length comes from the habit frequency
+final class Streaks {
+
+    private Streaks() { }
+
+    record State(int currentStreak, int longestStreak, LocalDate lastPeriod) {
+        static final State EMPTY = new State(0, 0, null);
+    }
+
+    static LocalDate periodOf(HabitFrequency frequency, LocalDate date) {
+        return switch (frequency) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    static LocalDate nextPeriod(HabitFrequency frequency, LocalDate period) {
+        return switch (frequency) {
+            case DAILY -> period.plusDays(1);
+            case WEEKLY -> period.plusWeeks(1);
+            case MONTHLY -> period.plusMonths(1);
+        };
+    }
+
+    // Returns null when the check-in lands before the last counted period, such a streak can only be rebuilt from history
+    static State advance(State state, HabitFrequency frequency, LocalDate date) {
+        LocalDate period = periodOf(frequency, date);
+
+        if (state.lastPeriod() == null) {
+            return new State(1, Math.max(state.longestStreak(), 1), period);
+        }
+        if (period.isBefore(state.lastPeriod())) {
+            return null;
+        }
+        if (period.equals(state.lastPeriod())) {
+            return state;
+        }
+
+        int currentStreak = period.equals(nextPeriod(frequency, state.lastPeriod())) ? state.currentStreak() + 1 : 1;
+        return new State(currentStreak, Math.max(state.longestStreak(), currentStreak), period);
+    }
+
+    static State fromHistory(HabitFrequency frequency, List<LocalDate> sortedDates) {
+        State state = State.EMPTY;
+
+        for (LocalDate date : sortedDates) {
+            state = advance(state, frequency, date);
+        }
+        return state;
+    }
+
+    // Stored streak is the one ending in the last checked-in period, it is still current only until the following period passes
+    static int currentStreak(HabitFrequency frequency, int storedStreak, LocalDate lastPeriod, LocalDate today) {
+        if (lastPeriod == null) {
+            return 0;
+        }
+        return periodOf(frequency, today).isAfter(nextPeriod(frequency, lastPeriod)) ? 0 : storedStreak;
+    }
+}
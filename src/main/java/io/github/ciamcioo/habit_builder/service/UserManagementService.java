@@ -1,11 +1,24 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.config.PaginationProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
 import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
 import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.model.event.UserChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.UserDeletedEvent;
 import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.UserKeys;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableExceptionLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
 import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.exception.PreconditionFailedException;
 import io.github.ciamcioo.habit_builder.exception.UserAlreadyExistsException;
 import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
 
@@ -13,9 +26,15 @@ import io.github.ciamcioo.habit_builder.service.mapper.UserMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 @Service
 public class UserManagementService implements UserService {
@@ -25,25 +44,40 @@ public class UserManagementService implements UserService {
     private static final String USER_ALREADY_EXISTS_MESSAGE_FORMAT = "User with given email: %s already exists";
 
     private final UserRepository userRepository;
+    private final HabitService habitService;
     private final UserMapper userMapper;
+    private final PaginationProperties paginationProperties;
+    private final ImportProperties importProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserManagementService(UserRepository userRepository, UserMapper userMapper) {
+    public UserManagementService(UserRepository userRepository,
+                                 HabitService habitService,
+                                 UserMapper userMapper,
+                                 PaginationProperties paginationProperties,
+                                 ImportProperties importProperties,
+                                 ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.habitService = habitService;
         this.userMapper = userMapper;
+        this.paginationProperties = paginationProperties;
+        this.importProperties = importProperties;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     @EnableMethodLogging
-    public List<UserDTO> getAllUsers() {
-        List<User> persistedUsers = userRepository.findAll();
+    public CursorPageDTO<UserDTO> getUsersPage(UserSearchCriteria criteria, String afterEmail, Integer pageSize) {
+        int resolvedPageSize = paginationProperties.resolvePageSize(pageSize);
 
-        return persistedUsers.stream()
-                             .map(userMapper::toDTO)
-                             .toList();
+        List<UserDTO> users = userRepository.searchUsers(criteria, afterEmail, resolvedPageSize + 1);
+
+        return CursorPageDTO.of(users, resolvedPageSize, UserDTO::email);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.USERS_CACHE, key = "#email")
     @EnableMethodLogging
     @EnableExceptionLogging
     public UserDTO getUser(String email) {
@@ -64,34 +98,101 @@ public class UserManagementService implements UserService {
 
         User user = userMapper.toEntity(userDTO);
         userRepository.saveAndFlush(user);
+        eventPublisher.publishEvent(new UserChangedEvent(List.of(userDTO.email()), ChangeType.CREATED));
 
         return user.getUsername();
     }
 
     @Override
+    @Transactional
     @EnableMethodLogging
     public List<String> addUsers(List<UserDTO> userDTOs) {
-        Set<UserDTO> uniqueUser = new HashSet<>(userDTOs);
+        Set<String> createdEmails = new HashSet<>(importUsers(userDTOs).createdKeys());
+
+        return userDTOs.stream()
+                       .filter(userDTO -> createdEmails.remove(userDTO.email()))
+                       .map(UserDTO::username)
+                       .toList();
+    }
 
-        List<User> usersToPersist = uniqueUser.stream()
-                                              .filter(userDTO -> userRepository.findUserByEmail(userDTO.email()).isEmpty())
-                                              .map(userMapper::toEntity)
-                                              .toList();
+    @Override
+    @Transactional
+    @EnableMethodCallLogging
+    public ImportReportDTO importUsers(List<UserDTO> userDTOs) {
+        ImportStatus[] statuses = new ImportStatus[userDTOs.size()];
+        Set<String> requestedEmails = new HashSet<>();
+        Set<String> requestedUsernames = new HashSet<>();
+        List<Integer> uniqueUserIndexes = new ArrayList<>();
+
+        for (int index = 0; index < userDTOs.size(); index++) {
+            UserDTO userDTO = userDTOs.get(index);
+
+            if (!requestedEmails.add(userDTO.email())) {
+                statuses[index] = ImportStatus.DUPLICATE;
+            } else if (!requestedUsernames.add(userDTO.username())) {
+                statuses[index] = ImportStatus.USERNAME_TAKEN;
+            } else {
+                uniqueUserIndexes.add(index);
+            }
+        }
 
-        userRepository.saveAllAndFlush(usersToPersist);
+        List<String> insertedEmails = new ArrayList<>();
+        for (List<Integer> chunk : Chunks.of(uniqueUserIndexes, importProperties.chunkSize())) {
+            Set<String> existingEmails = new HashSet<>();
+            Set<String> existingUsernames = new HashSet<>();
+            userRepository.findExistingKeys(
+                    chunk.stream().map(index -> userDTOs.get(index).email()).toList(),
+                    chunk.stream().map(index -> userDTOs.get(index).username()).toList()
+            ).forEach(keys -> {
+                existingEmails.add(keys.email());
+                existingUsernames.add(keys.username());
+            });
+
+            List<User> usersToInsert = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                UserDTO userDTO = userDTOs.get(index);
+
+                if (existingEmails.contains(userDTO.email())) {
+                    statuses[index] = ImportStatus.ALREADY_EXISTS;
+                } else if (existingUsernames.contains(userDTO.username())) {
+                    statuses[index] = ImportStatus.USERNAME_TAKEN;
+                } else {
+                    statuses[index] = ImportStatus.CREATED;
+                    usersToInsert.add(userMapper.toEntity(userDTO));
+                    insertedEmails.add(userDTO.email());
+                }
+            }
+
+            if (!usersToInsert.isEmpty()) {
+                userRepository.insertAll(usersToInsert);
+            }
+        }
 
-        return usersToPersist.stream()
-                             .map(User::getUsername)
-                             .toList();
+        if (!insertedEmails.isEmpty()) {
+            eventPublisher.publishEvent(new UserChangedEvent(insertedEmails, ChangeType.CREATED));
+        }
+
+        return ImportReportDTO.of(
+                IntStream.range(0, userDTOs.size())
+                         .mapToObj(index -> new ImportResultDTO(userDTOs.get(index).email(), statuses[index]))
+                         .toList()
+        );
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.USERS_CACHE, key = "#email"),
+            @CacheEvict(cacheNames = CacheConfiguration.USERS_CACHE, key = "#updatedUser.email()")
+    })
     @EnableExceptionLogging
     @EnableMethodLogging
-    public UserDTO updateUser(String email, UserDTO updatedUser) {
+    public UserDTO updateUser(String email, UserDTO updatedUser, Long expectedVersion) {
         User userToUpdate = userRepository.findUserByEmail(email)
                                           .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE_FORMAT, email)));
 
+        checkVersion(userToUpdate, expectedVersion);
+
         if (!email.equals(updatedUser.email()) &&
             userRepository.findUserByEmail(updatedUser.email()).isPresent()) {
 
@@ -104,19 +205,40 @@ public class UserManagementService implements UserService {
         userToUpdate.setLastName(updatedUser.lastName());
         userToUpdate.setAge(updatedUser.age());
 
-        return userMapper.toDTO(userToUpdate);
+        // Flushing here increments the version, so the returned ETag already describes the stored row
+        UserDTO userDTO = userMapper.toDTO(userRepository.saveAndFlush(userToUpdate));
+        // A changed email is reported under both keys, the old one no longer resolves
+        eventPublisher.publishEvent(new UserChangedEvent(
+                email.equals(updatedUser.email()) ? List.of(email) : List.of(email, updatedUser.email()),
+                ChangeType.UPDATED
+        ));
+
+        return userDTO;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.USERS_CACHE, key = "#email")
     @EnableMethodCallLogging
     @EnableExceptionLogging
-    public void deleteUser(String email) {
+    public void deleteUser(String email, Long expectedVersion) {
         User userToDelete = userRepository.findUserByEmail(email)
                                           .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE_FORMAT, email)));
 
+        checkVersion(userToDelete, expectedVersion);
+
         log.info("Retrieved object: {}", userToDelete);
 
+        // Habits go with one set-based delete, the user's habit collection is never loaded
+        habitService.deleteUserHabits(userToDelete.getId());
         userRepository.delete(userToDelete);
         userRepository.flush();
+        eventPublisher.publishEvent(new UserDeletedEvent(email));
+    }
+
+    private void checkVersion(User user, Long expectedVersion) {
+        if (!EntityVersions.matches(expectedVersion, user.getVersion())) {
+            throw new PreconditionFailedException();
+        }
     }
 }
@@ -1,12 +1,15 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
 import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
 
 import java.util.List;
 
 public interface UserService {
 
-    List<UserDTO> getAllUsers();
+    CursorPageDTO<UserDTO> getUsersPage(UserSearchCriteria criteria, String afterEmail, Integer pageSize);
 
     UserDTO getUser(String email);
 
@@ -14,9 +17,11 @@ public interface UserService {
 
     List<String> addUsers(List<UserDTO> userDTOList);
 
-    UserDTO updateUser(String email, UserDTO updatedUser);
+    ImportReportDTO importUsers(List<UserDTO> userDTOList);
 
-    void deleteUser(String email);
+    UserDTO updateUser(String email, UserDTO updatedUser, Long expectedVersion);
+
+    void deleteUser(String email, Long expectedVersion);
 
 
 }
@@ -0,0 +1,268 @@
+package io.github.ciamcioo.habit_builder.service.feed;
+
+import io.github.ciamcioo.habit_builder.config.ChangeFeedProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+import io.github.ciamcioo.habit_builder.model.dto.ChangeEventDTO;
+import io.github.ciamcioo.habit_builder.model.event.HabitChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
+import io.github.ciamcioo.habit_builder.model.event.UserChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.UserDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Committed changes are numbered and kept in a bounded history, so a reconnecting client resumes from its Last-Event-ID.
+// Every subscriber drains its own bounded buffer on a virtual thread, publishing never waits for a client and a client
+// falling behind by more than its buffer is disconnected
+@Component
+public class ChangeFeed implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    static final String RESET_EVENT_NAME = "reset";
+    private static final String RESET_EVENT_DATA = "Missed changes are no longer available, reload the current state";
+    private static final String SUBSCRIBED_COMMENT = "subscribed";
+
+    private final ChangeFeedProperties properties;
+    private final Executor senders;
+    // Event ids of a previous run never match the current one, so clients reconnecting after a restart are reset
+    private final String streamId;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<FeedEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+    private volatile boolean running;
+
+    @Autowired
+    public ChangeFeed(ChangeFeedProperties properties, Clock clock) {
+        this(properties, clock, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    ChangeFeed(ChangeFeedProperties properties, Clock clock, Executor senders) {
+        this.properties = properties;
+        this.senders = senders;
+        this.streamId = Long.toString(clock.millis(), Character.MAX_RADIX);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.subscriptionTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(exception -> subscriber.close());
+
+        // Replay and registration happen under the publishing lock, so no change falls between them
+        lock.lock();
+        try {
+            List<FeedEvent> missedEvents = findMissedEvents(lastEventId);
+
+            if (missedEvents == null) {
+                subscriber.offer(SseEmitter.event()
+                                           .id(eventId(sequence))
+                                           .name(RESET_EVENT_NAME)
+                                           .data(RESET_EVENT_DATA));
+            } else {
+                missedEvents.forEach(event -> subscriber.offer(toSseEvent(event)));
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        subscriber.scheduleDrain();
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHabitChanged(HabitChangedEvent event) {
+        publish(ChangeEventDTO.Resource.HABIT, event.changeType(), event.habitIds().stream().map(UUID::toString).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHabitDeleted(HabitDeletedEvent event) {
+        publish(ChangeEventDTO.Resource.HABIT, ChangeType.DELETED, event.habitIds().stream().map(UUID::toString).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        publish(ChangeEventDTO.Resource.USER, event.changeType(), event.emails());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        publish(ChangeEventDTO.Resource.USER, ChangeType.DELETED, List.of(event.email()));
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // Stopped before the web server, open streams would otherwise hold its graceful shutdown until the timeout
+    @Override
+    public void stop() {
+        running = false;
+        subscribers.forEach(Subscriber::complete);
+
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publish(ChangeEventDTO.Resource resource, ChangeType changeType, List<String> keys) {
+        lock.lock();
+        try {
+            FeedEvent event = new FeedEvent(++sequence, new ChangeEventDTO(resource, changeType, keys));
+
+            history.addLast(event);
+            if (history.size() > properties.historySize()) {
+                history.removeFirst();
+            }
+
+            subscribers.forEach(subscriber -> subscriber.offer(toSseEvent(event)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Null when the client has to be reset, because the changes it missed are gone or don't fit its buffer
+    private List<FeedEvent> findMissedEvents(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+
+        long lastSequence = parseSequence(lastEventId.trim());
+        long oldestSequence = history.isEmpty() ? sequence + 1 : history.getFirst().sequence();
+
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldestSequence ||
+            sequence - lastSequence > properties.subscriberBufferSize()) {
+            return null;
+        }
+
+        return history.stream()
+                      .filter(event -> event.sequence() > lastSequence)
+                      .toList();
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf('-');
+
+        if (separator < 0 || !eventId.substring(0, separator).equals(streamId)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long eventSequence) {
+        return streamId + "-" + eventSequence;
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(FeedEvent event) {
+        return SseEmitter.event()
+                         .id(eventId(event.sequence()))
+                         .data(event.change());
+    }
+
+    private record FeedEvent(long sequence, ChangeEventDTO change) {
+
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private boolean opened;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(properties.subscriberBufferSize());
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+
+            if (!buffer.offer(event)) {
+                log.warn("Change feed subscriber fell {} events behind and is disconnected", buffer.size());
+                close();
+            }
+            scheduleDrain();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void complete() {
+            close();
+            emitter.complete();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                // Response headers are only committed with the first write, a client with nothing to replay would wait for them
+                if (!opened) {
+                    emitter.send(SseEmitter.event().comment(SUBSCRIBED_COMMENT));
+                    opened = true;
+                }
+
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone away, the container completes the response
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            if (closed) {
+                buffer.clear();
+                emitter.complete();
+            } else if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -14,6 +14,11 @@ public interface HabitMapper {
     @Mapping(target = "startDate", source = "entity.startDate")
     @Mapping(target = "endDate",   source = "entity.endDate")
     @Mapping(target = "reminder",  source = "entity.reminder")
+    @Mapping(target = "currentStreak", source = "entity.currentStreak")
+    @Mapping(target = "longestStreak", source = "entity.longestStreak")
+    @Mapping(target = "id",        source = "entity.uuid")
+    @Mapping(target = "version",   source = "entity.version")
+    @Mapping(target = "withCurrentStreak", ignore = true)
     HabitDTO toDTO(Habit entity);
 
 
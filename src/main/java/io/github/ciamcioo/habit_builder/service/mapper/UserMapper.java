@@ -14,6 +14,7 @@ public interface UserMapper {
     @Mapping(target = "firstName", source = "entity.firstName")
     @Mapping(target = "lastName",  source = "entity.lastName")
     @Mapping(target = "age",       source = "entity.age")
+    @Mapping(target = "version",   source = "entity.version")
     UserDTO toDTO(User entity);
 
     @Mapping(target = "id",         ignore = true)
@@ -0,0 +1,15 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LoggingReminderSink implements ReminderSink {
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void dispatch(List<Reminder> reminders) {
+        reminders.forEach(reminder -> log.info("Reminder: habit {} is due at {}", reminder.habitName(), reminder.fireAt()));
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record Reminder(
+        UUID habitId,
+        String habitName,
+        Instant fireAt
+) {
+
+}
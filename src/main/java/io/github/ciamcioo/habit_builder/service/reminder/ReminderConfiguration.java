@@ -0,0 +1,16 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReminderConfiguration {
+
+    // Reminders are only logged until a delivery channel provides its own sink
+    @Bean
+    @ConditionalOnMissingBean(ReminderSink.class)
+    public ReminderSink loggingReminderSink() {
+        return new LoggingReminderSink();
+    }
+}
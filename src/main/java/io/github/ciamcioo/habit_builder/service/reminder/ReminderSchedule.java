@@ -0,0 +1,49 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import io.github.ciamcioo.habit_builder.repository.projection.HabitReminder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+// Occurrences are counted from the start date, so monthly reminders keep their day of month after shorter months
+final class ReminderSchedule {
+
+    private ReminderSchedule() { }
+
+    static Optional<Instant> nextFireTime(HabitReminder habit, LocalTime timeOfDay, ZoneId zone, Instant after) {
+        LocalDate startDate = habit.startDate() != null ? habit.startDate() : LocalDate.ofInstant(after, zone);
+        LocalDate afterDate = LocalDate.ofInstant(after, zone);
+
+        long occurrence = Math.max(0, elapsedPeriods(habit, startDate, afterDate));
+        LocalDate date = occurrenceDate(habit, startDate, occurrence);
+
+        while (!date.atTime(timeOfDay).atZone(zone).toInstant().isAfter(after)) {
+            date = occurrenceDate(habit, startDate, ++occurrence);
+        }
+
+        if (habit.endDate() != null && date.isAfter(habit.endDate())) {
+            return Optional.empty();
+        }
+        return Optional.of(date.atTime(timeOfDay).atZone(zone).toInstant());
+    }
+
+    private static long elapsedPeriods(HabitReminder habit, LocalDate startDate, LocalDate date) {
+        return switch (habit.frequency()) {
+            case DAILY -> ChronoUnit.DAYS.between(startDate, date);
+            case WEEKLY -> ChronoUnit.WEEKS.between(startDate, date);
+            case MONTHLY -> ChronoUnit.MONTHS.between(startDate, date);
+        };
+    }
+
+    private static LocalDate occurrenceDate(HabitReminder habit, LocalDate startDate, long occurrence) {
+        return switch (habit.frequency()) {
+            case DAILY -> startDate.plusDays(occurrence);
+            case WEEKLY -> startDate.plusWeeks(occurrence);
+            case MONTHLY -> startDate.plusMonths(occurrence);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import io.github.ciamcioo.habit_builder.config.ReminderProperties;
+import io.github.ciamcioo.habit_builder.model.event.HabitChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Upcoming reminders are kept in memory ordered by fire time, so dispatching only peeks at the head of the queue
+// and the habit table is read on startup, on habit changes and for the habits of each due batch
+@Component
+@ConditionalOnProperty(prefix = "habit-builder.reminders", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final HabitRepository habitRepository;
+    private final ReminderSink reminderSink;
+    private final ReminderProperties reminderProperties;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<ScheduledReminder> queue = new PriorityQueue<>(Comparator.comparing(ScheduledReminder::fireAt));
+    // Latest entry of every habit, entries replaced or cancelled stay in the queue and are skipped when polled
+    private final Map<UUID, ScheduledReminder> scheduledByHabit = new HashMap<>();
+
+    public ReminderScheduler(HabitRepository habitRepository,
+                             ReminderSink reminderSink,
+                             ReminderProperties reminderProperties,
+                             Clock clock) {
+        this.habitRepository = habitRepository;
+        this.reminderSink = reminderSink;
+        this.reminderProperties = reminderProperties;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadReminders() {
+        Instant now = clock.instant();
+
+        try (Stream<HabitReminder> reminders = habitRepository.streamActiveReminders(LocalDate.now(clock))) {
+            reminders.forEach(reminder -> schedule(reminder, now));
+        }
+
+        log.info("Reminder scheduler loaded {} reminders", pendingReminders());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHabitChanged(HabitChangedEvent event) {
+        Instant now = clock.instant();
+        Map<UUID, HabitReminder> reminders = findReminders(event.habitIds());
+
+        for (UUID habitId : event.habitIds()) {
+            HabitReminder reminder = reminders.get(habitId);
+
+            if (reminder != null) {
+                schedule(reminder, now);
+            } else {
+                cancel(habitId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHabitDeleted(HabitDeletedEvent event) {
+        lock.lock();
+        try {
+            event.habitIds().forEach(scheduledByHabit::remove);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${habit-builder.reminders.dispatch-interval:PT1S}")
+    public void dispatchDueReminders() {
+        Instant now = clock.instant();
+        List<ScheduledReminder> dueReminders;
+
+        while (!(dueReminders = pollDue(now)).isEmpty()) {
+            // Habits deleted or changed behind the scheduler's back, e.g. together with their user, are dropped here
+            Map<UUID, HabitReminder> currentHabits = findReminders(dueReminders.stream().map(ScheduledReminder::habitId).toList());
+
+            List<Reminder> reminders = new ArrayList<>(dueReminders.size());
+            for (ScheduledReminder dueReminder : dueReminders) {
+                HabitReminder habit = currentHabits.get(dueReminder.habitId());
+
+                if (habit != null) {
+                    reminders.add(new Reminder(habit.id(), habit.name(), dueReminder.fireAt()));
+                    schedule(habit, now);
+                } else {
+                    cancel(dueReminder.habitId());
+                }
+            }
+
+            if (!reminders.isEmpty()) {
+                reminderSink.dispatch(reminders);
+            }
+        }
+    }
+
+    public int pendingReminders() {
+        lock.lock();
+        try {
+            return scheduledByHabit.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(HabitReminder habit, Instant after) {
+        Optional<Instant> fireAt = ReminderSchedule.nextFireTime(habit, reminderProperties.timeOfDay(), clock.getZone(), after);
+
+        lock.lock();
+        try {
+            if (fireAt.isEmpty()) {
+                scheduledByHabit.remove(habit.id());
+                return;
+            }
+
+            ScheduledReminder scheduledReminder = new ScheduledReminder(habit.id(), fireAt.get());
+            scheduledByHabit.put(habit.id(), scheduledReminder);
+            queue.add(scheduledReminder);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel(UUID habitId) {
+        lock.lock();
+        try {
+            scheduledByHabit.remove(habitId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<ScheduledReminder> pollDue(Instant now) {
+        List<ScheduledReminder> dueReminders = new ArrayList<>();
+
+        lock.lock();
+        try {
+            while (dueReminders.size() < reminderProperties.batchSize() && !queue.isEmpty() && !queue.peek().fireAt().isAfter(now)) {
+                ScheduledReminder scheduledReminder = queue.poll();
+
+                if (scheduledByHabit.get(scheduledReminder.habitId()) == scheduledReminder) {
+                    scheduledByHabit.remove(scheduledReminder.habitId());
+                    dueReminders.add(scheduledReminder);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return dueReminders;
+    }
+
+    private Map<UUID, HabitReminder> findReminders(Collection<UUID> habitIds) {
+        if (habitIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return habitRepository.findRemindersByIds(habitIds)
+                              .stream()
+                              .collect(Collectors.toMap(HabitReminder::id, Function.identity()));
+    }
+
+    private record ScheduledReminder(UUID habitId, Instant fireAt) {
+    }
+}
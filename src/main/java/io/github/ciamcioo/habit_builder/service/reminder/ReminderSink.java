@@ -0,0 +1,8 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import java.util.List;
+
+public interface ReminderSink {
+
+    void dispatch(List<Reminder> reminders);
+}
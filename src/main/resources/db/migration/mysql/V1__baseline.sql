@@ -0,0 +1,46 @@
+-- Primary keys are time-ordered UUIDv7 generated by the application and stored as BINARY(16),
+-- inserts append to the right edge of the clustered primary key index
+CREATE TABLE habit_user(
+   id BINARY(16) PRIMARY KEY,
+   email VARCHAR(255) NOT NULL UNIQUE,
+   username VARCHAR(30) NOT NULL UNIQUE,
+   first_name VARCHAR(30) DEFAULT 'unspecified',
+   last_name VARCHAR(50) DEFAULT 'unspecified',
+   age INTEGER DEFAULT 0,
+   email_domain VARCHAR(255) GENERATED ALWAYS AS (LOWER(SUBSTRING(email, LOCATE('@', email) + 1))) STORED,
+   version BIGINT DEFAULT 0 NOT NULL
+);
+
+-- Username prefix filter uses the unique index on username, keyset on email uses the unique index on email
+CREATE INDEX idx_habit_user_age ON habit_user(age, email);
+CREATE INDEX idx_habit_user_email_domain ON habit_user(email_domain, email);
+
+
+CREATE TABLE habit(
+    id BINARY(16) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    habit_frequency VARCHAR(255) NOT NULL,
+    start_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    end_date TIMESTAMP NULL DEFAULT (CURRENT_TIMESTAMP + INTERVAL 1 YEAR),
+    reminder BOOLEAN DEFAULT FALSE,
+    user_id BINARY(16),
+    current_streak INTEGER DEFAULT 0 NOT NULL,
+    longest_streak INTEGER DEFAULT 0 NOT NULL,
+    last_streak_period DATE,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+-- Habits of one user are listed ordered by name with a keyset on name, the index also serves the foreign key
+CREATE INDEX idx_habit_user_name ON habit(user_id, name);
+
+ALTER TABLE habit
+ADD FOREIGN KEY (user_id) REFERENCES habit_user(id);
+
+
+-- Check-ins are append-mostly, the composite primary key is the only index and keeps the rows of a habit clustered by date
+CREATE TABLE habit_check_in(
+    habit_id BINARY(16) NOT NULL,
+    check_in_date DATE NOT NULL,
+    PRIMARY KEY (habit_id, check_in_date),
+    FOREIGN KEY (habit_id) REFERENCES habit(id) ON DELETE CASCADE
+);
@@ -0,0 +1,6 @@
+-- The foreign key on user_id is served by idx_habit_user_name, whose leading column is user_id
+-- Stats count habits by end date
+CREATE INDEX idx_habit_end_date ON habit(end_date);
+
+-- Reminders scan only habits with the reminder enabled that haven't ended yet
+CREATE INDEX idx_habit_reminder_end_date ON habit(reminder, end_date);
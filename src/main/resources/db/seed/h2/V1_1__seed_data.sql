@@ -1,14 +1,14 @@
 INSERT INTO habit_user(id, email, username, first_name, last_name, age)
-VALUES (RANDOM_UUID(), 'fooBar12@gmail.com', 'FooBar', 'Foo', 'Bar', 27);
+VALUES (RANDOM_UUID(7), 'fooBar12@gmail.com', 'FooBar', 'Foo', 'Bar', 27);
 
 INSERT INTO habit_user(id, email, username, first_name, last_name, age)
-VALUES (RANDOM_UUID(), 'jhonyDoo@gov.com', 'John27', 'Johny', 'Doo', 30);
+VALUES (RANDOM_UUID(7), 'jhonyDoo@gov.com', 'John27', 'Johny', 'Doo', 30);
 
 INSERT INTO habit_user(id, email, username)
-VALUES (RANDOM_UUID(), 'maloclmNarvaes@gmail.com', 'MalcomXL');
+VALUES (RANDOM_UUID(7), 'maloclmNarvaes@gmail.com', 'MalcomXL');
 
 INSERT INTO habit(id, name, habit_frequency, start_date, end_date, reminder, user_id)
-VALUES (RANDOM_UUID(),
+VALUES (RANDOM_UUID(7),
         'Programing',
         'DAILY',
         CURRENT_TIMESTAMP(),
@@ -18,7 +18,7 @@ VALUES (RANDOM_UUID(),
        );
 
 INSERT INTO habit(id, name, habit_frequency, start_date, end_date, reminder , user_id)
-VALUES (RANDOM_UUID(),
+VALUES (RANDOM_UUID(7),
         'Finances',
         'DAILY',
         CURRENT_TIMESTAMP(),
@@ -28,7 +28,7 @@ VALUES (RANDOM_UUID(),
        );
 
 INSERT INTO habit(id, name, habit_frequency, user_id)
-VALUES (RANDOM_UUID(),
+VALUES (RANDOM_UUID(7),
         'Running',
         'WEEKLY',
         SELECT id FROM habit_user WHERE habit_user.email='fooBar12@gmail.com'
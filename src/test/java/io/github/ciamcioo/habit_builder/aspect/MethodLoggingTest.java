@@ -0,0 +1,178 @@
+package io.github.ciamcioo.habit_builder.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.config.LoggingProperties;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodLoggingTest {
+    public static final int TEST_MAX_VALUE_LENGTH = 10;
+    public static final int TEST_INVOCATIONS      = 200;
+
+    // HELPER OBJECTS
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(MethodLoggingAspect.class);
+    private ListAppender<ILoggingEvent> loggedEvents;
+
+    @BeforeEach
+    void setup() {
+        loggedEvents = new ListAppender<>();
+        loggedEvents.start();
+        aspectLogger.addAppender(loggedEvents);
+    }
+
+    @AfterEach
+    void cleanup() {
+        aspectLogger.detachAppender(loggedEvents);
+    }
+
+    @Test
+    @DisplayName("Collections and arrays should be logged by their size instead of their content")
+    void collectionsAndArraysShouldBeLoggedBySize() {
+        Object[] arguments = {new ArrayList<>(List.of("foo", "bar")), new HabitDTO[3], null};
+
+        assertEquals("[ArrayList[size=2], HabitDTO[3], null]", LogValues.renderArguments(arguments, TEST_MAX_VALUE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Response entity should be logged with status and summarized body")
+    void responseEntityShouldBeLoggedWithSummarizedBody() {
+        ResponseEntity<List<String>> responseEntity = new ResponseEntity<>(new ArrayList<>(List.of("foo")), HttpStatus.OK);
+
+        assertEquals("ResponseEntity[status=200 OK, body=ArrayList[size=1]]", LogValues.render(responseEntity, TEST_MAX_VALUE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Records wrapping collections should be logged with summarized components")
+    void recordsWrappingCollectionsShouldBeLoggedBySize() {
+        CursorPageDTO<String> page = new CursorPageDTO<>(new ArrayList<>(List.of("foo", "bar")), "bar");
+
+        assertEquals("CursorPageDTO[content=ArrayList[size=2], nextCursor=bar]", LogValues.render(page, TEST_MAX_VALUE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Logged values longer than the limit should be truncated")
+    void longValuesShouldBeTruncated() {
+        assertEquals("0123456789...", LogValues.render("0123456789abcdef", TEST_MAX_VALUE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Synchronous dispatcher should run log event on the calling thread")
+    void synchronousDispatcherShouldRunEventInline() {
+        LogDispatcher logDispatcher = new LogDispatcher(createProperties(false, 1));
+        AtomicInteger loggedEvents = new AtomicInteger();
+
+        logDispatcher.dispatch(loggedEvents::incrementAndGet);
+
+        assertEquals(1, loggedEvents.get());
+    }
+
+    @Test
+    @DisplayName("Asynchronous dispatcher should drop log events instead of blocking when the queue is full")
+    void asynchronousDispatcherShouldDropEventsWhenQueueIsFull() throws InterruptedException {
+        LogDispatcher logDispatcher = new LogDispatcher(createProperties(true, 1));
+        CountDownLatch blockedWorker = new CountDownLatch(1);
+        CountDownLatch startedWorker = new CountDownLatch(1);
+
+        logDispatcher.dispatch(() -> {
+            startedWorker.countDown();
+            awaitQuietly(blockedWorker);
+        });
+        assertTrue(startedWorker.await(5, TimeUnit.SECONDS));
+
+        logDispatcher.dispatch(() -> {});
+        logDispatcher.dispatch(() -> {});
+        logDispatcher.dispatch(() -> {});
+
+        blockedWorker.countDown();
+        logDispatcher.destroy();
+
+        assertEquals(2, logDispatcher.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("Arguments should be rendered on the calling thread before the asynchronous logger runs")
+    void argumentsShouldBeRenderedOnCallingThread() throws InterruptedException {
+        LogDispatcher logDispatcher = new LogDispatcher(createProperties(true, 10));
+        LoggedTarget loggedTarget = createProxy(logDispatcher, createProperties(true, 10));
+        CountDownLatch blockedWorker = new CountDownLatch(1);
+        StringBuilder argument = new StringBuilder("before");
+
+        logDispatcher.dispatch(() -> awaitQuietly(blockedWorker));
+        loggedTarget.loggedMethod(argument);
+        argument.append("-after");
+
+        blockedWorker.countDown();
+        logDispatcher.destroy();
+
+        assertEquals("Event: method-execution, Method: LoggedTarget.loggedMethod(..), Arguments: [before]",
+                     loggedEvents.list.getFirst().getFormattedMessage());
+    }
+
+    @Test
+    @DisplayName("Call and return of one invocation should be sampled together")
+    void callAndReturnShouldBeSampledTogether() {
+        LoggingProperties properties = new LoggingProperties(false, 1, 0.5, 0.5, 0.5, TEST_MAX_VALUE_LENGTH);
+        LoggedTarget loggedTarget = createProxy(new LogDispatcher(properties), properties);
+
+        for (int invocation = 0; invocation < TEST_INVOCATIONS; invocation++) {
+            loggedTarget.loggedMethod(new StringBuilder("value"));
+        }
+
+        List<String> messages = loggedEvents.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertAll(
+                () -> assertFalse(messages.isEmpty()),
+                () -> assertTrue(messages.size() < 2 * TEST_INVOCATIONS),
+                () -> assertEquals(0, messages.size() % 2),
+                () -> assertTrue(IntStream.range(0, messages.size())
+                                          .allMatch(index -> messages.get(index).contains(index % 2 == 0 ? "Arguments" : "Returned")))
+        );
+    }
+
+    private LoggedTarget createProxy(LogDispatcher logDispatcher, LoggingProperties properties) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LoggedTarget());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodLoggingAspect(logDispatcher, properties));
+        return proxyFactory.getProxy();
+    }
+
+    private LoggingProperties createProperties(boolean async, int queueCapacity) {
+        return new LoggingProperties(async, queueCapacity, 1.0, 1.0, 1.0, TEST_MAX_VALUE_LENGTH);
+    }
+
+    static class LoggedTarget {
+
+        @EnableMethodLogging
+        public String loggedMethod(StringBuilder value) {
+            return "logged";
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
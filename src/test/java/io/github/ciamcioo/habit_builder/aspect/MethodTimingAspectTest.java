@@ -0,0 +1,105 @@
+package io.github.ciamcioo.habit_builder.aspect;
+
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodCallLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodLogging;
+import io.github.ciamcioo.habit_builder.aspect.annotation.EnableMethodTiming;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodTimingAspectTest {
+
+    // TESTED OBJECT
+    private TimedTarget timedTarget;
+
+    // HELPER OBJECTS
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TimedTarget());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimingAspect(meterRegistry));
+        timedTarget = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Successful call of the timed method should be recorded with success outcome")
+    void successfulCallShouldBeRecordedWithSuccessOutcome() {
+        timedTarget.timedMethod();
+        timedTarget.timedMethod();
+
+        Timer timer = findTimer("timedMethod", MethodTimingAspect.SUCCESS_OUTCOME);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("Methods annotated with EnableMethodLogging should be timed as well")
+    void loggedMethodShouldBeTimed() {
+        timedTarget.loggedMethod();
+
+        assertEquals(1, findTimer("loggedMethod", MethodTimingAspect.SUCCESS_OUTCOME).count());
+    }
+
+    @Test
+    @DisplayName("Methods annotated only with EnableMethodCallLogging should be timed as well")
+    void callLoggedMethodShouldBeTimed() {
+        timedTarget.callLoggedMethod();
+
+        assertEquals(1, findTimer("callLoggedMethod", MethodTimingAspect.SUCCESS_OUTCOME).count());
+    }
+
+    @Test
+    @DisplayName("Exception thrown by the timed method should be rethrown and recorded as the outcome")
+    void failedCallShouldBeRecordedWithExceptionOutcome() {
+        assertThrows(HabitNotFoundException.class, () -> timedTarget.failingMethod());
+
+        assertEquals(1, findTimer("failingMethod", HabitNotFoundException.class.getSimpleName()).count());
+        assertNull(meterRegistry.find(MethodTimingAspect.TIMER_NAME)
+                                .tag("method", "failingMethod")
+                                .tag("outcome", MethodTimingAspect.SUCCESS_OUTCOME)
+                                .timer());
+    }
+
+    private Timer findTimer(String methodName, String outcome) {
+        Timer timer = meterRegistry.find(MethodTimingAspect.TIMER_NAME)
+                                   .tag("class", TimedTarget.class.getSimpleName())
+                                   .tag("method", methodName)
+                                   .tag("outcome", outcome)
+                                   .timer();
+        assertNotNull(timer);
+        return timer;
+    }
+
+    static class TimedTarget {
+
+        @EnableMethodTiming
+        public String timedMethod() {
+            return "timed";
+        }
+
+        @EnableMethodLogging
+        public String loggedMethod() {
+            return "logged";
+        }
+
+        @EnableMethodCallLogging
+        public String callLoggedMethod() {
+            return "call logged";
+        }
+
+        @EnableMethodTiming
+        public String failingMethod() {
+            throw new HabitNotFoundException("Habit not found");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductionDataSourceConfigurationTest {
+
+    // HELPER OBJECTS
+    private HikariDataSource dataSource;
+    private Map<String, Object> jpaProperties;
+    private final DataSourceCheckProperties properties = new DataSourceCheckProperties(50, 20);
+
+    @BeforeEach
+    void setup() {
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(10);
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        dataSource.addDataSourceProperty("cachePrepStmts", "true");
+
+        jpaProperties = new HashMap<>();
+        jpaProperties.put("hibernate.jdbc.batch_size", "500");
+        jpaProperties.put("hibernate.jdbc.fetch_size", "500");
+    }
+
+    @Test
+    @DisplayName("Tuned settings should pass the check and be reported")
+    void tunedSettingsShouldBeReported() {
+        String report = ProductionDataSourceConfiguration.checkSettings(dataSource, jpaProperties, properties);
+
+        assertTrue(report.contains("pool size 10"));
+        assertTrue(report.contains("batch size 500"));
+    }
+
+    @Test
+    @DisplayName("Disabled rewriteBatchedStatements should fail the startup with IllegalStateException")
+    void disabledBatchRewriteShouldThrowIllegalStateException() {
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "false");
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                                           () -> ProductionDataSourceConfiguration.checkSettings(dataSource, jpaProperties, properties));
+        assertTrue(exception.getMessage().contains("rewriteBatchedStatements"));
+    }
+
+    @Test
+    @DisplayName("Missing batch size and enabled SQL logging should both be reported by the IllegalStateException")
+    void missingBatchSizeAndShowSqlShouldThrowIllegalStateException() {
+        jpaProperties.remove("hibernate.jdbc.batch_size");
+        jpaProperties.put("hibernate.show_sql", "true");
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                                           () -> ProductionDataSourceConfiguration.checkSettings(dataSource, jpaProperties, properties));
+        assertTrue(exception.getMessage().contains("batch_size"));
+        assertTrue(exception.getMessage().contains("show-sql"));
+    }
+}
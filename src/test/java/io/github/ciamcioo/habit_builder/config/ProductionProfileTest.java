@@ -0,0 +1,103 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.service.HabitService;
+import io.github.ciamcioo.habit_builder.util.HabitBuilder;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// MySQL is not reachable from the build, the prod profile runs against H2 in MySQL compatibility mode instead
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:habitdb-prod;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password"
+})
+@ActiveProfiles("prod")
+public class ProductionProfileTest {
+
+    // TESTED SERVICE
+    @Autowired
+    private HabitService habitService;
+
+    // HELPER OBJECTS
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("The prod profile should configure the tuned connection pool, driver and Hibernate settings")
+    void prodProfileShouldApplyTunedSettings() {
+        HikariDataSource hikariDataSource = assertInstanceOf(HikariDataSource.class, dataSource);
+
+        assertAll(
+                () -> assertEquals(10,     hikariDataSource.getMaximumPoolSize()),
+                () -> assertEquals(10,     hikariDataSource.getMinimumIdle()),
+                () -> assertEquals("true", hikariDataSource.getDataSourceProperties().getProperty("rewriteBatchedStatements")),
+                () -> assertEquals("true", hikariDataSource.getDataSourceProperties().getProperty("cachePrepStmts")),
+                () -> assertEquals("500",  String.valueOf(entityManagerFactory.getProperties().get("hibernate.jdbc.batch_size"))),
+                () -> assertEquals("500",  String.valueOf(entityManagerFactory.getProperties().get("hibernate.jdbc.fetch_size"))),
+                () -> assertNotEquals("true", String.valueOf(entityManagerFactory.getProperties().get("hibernate.show_sql")))
+        );
+    }
+
+    @Test
+    @DisplayName("The task scheduler should have a thread for every scheduled job, so the nightly export doesn't hold back reminders")
+    void taskSchedulerShouldRunScheduledJobsOnSeparateThreads() {
+        assertEquals(3, taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize());
+    }
+
+    @Test
+    @DisplayName("The prod profile should apply the versioned migrations without the seed data")
+    void prodProfileShouldApplyMigrationsWithoutSeedData() {
+        List<String> appliedVersions = Arrays.stream(flyway.info().applied())
+                                             .map(MigrationInfo::getVersion)
+                                             .map(Object::toString)
+                                             .toList();
+
+        assertEquals(List.of("1", "2"), appliedVersions);
+        assertEquals(0, userRepository.count());
+        // An existing schema without history would be marked as version 1 without running it
+        assertFalse(flyway.getConfiguration().isBaselineOnMigrate());
+    }
+
+    @Test
+    @DisplayName("Batched inserts should work with the prod settings in MySQL compatibility mode")
+    void batchedInsertsShouldWorkInMySqlMode() {
+        HabitDTO[] habits = IntStream.range(0, 120)
+                                     .mapToObj(i -> HabitBuilder.getInstance().withTestValues().withName("Prod habit " + i).buildHabitDto())
+                                     .toArray(HabitDTO[]::new);
+
+        List<String> names = habitService.addHabits(habits);
+
+        assertEquals(120, names.size());
+        assertEquals("Prod habit 7", habitService.getHabitByName("Prod habit 7").name());
+    }
+}
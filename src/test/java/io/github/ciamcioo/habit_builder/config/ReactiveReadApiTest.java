@@ -0,0 +1,122 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import io.github.ciamcioo.habit_builder.controller.exceptions.Error;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "habit-builder.reactive.port=0")
+@ActiveProfiles("reactive")
+public class ReactiveReadApiTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    // TESTED SERVER
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    // HELPER OBJECTS
+    private WebClient webClient;
+
+    @BeforeEach
+    void setup() {
+        webClient = WebClient.create("http://localhost:" + reactiveReadServer.getPort());
+    }
+
+    @Test
+    @DisplayName("Habit lookup should return the habit with its entity tag")
+    void getHabitShouldReturnHabitWithEntityTag() {
+        ResponseEntity<HabitDTO> response = webClient.get()
+                                                     .uri("/api/habit/{name}", "Programing")
+                                                     .retrieve()
+                                                     .toEntity(HabitDTO.class)
+                                                     .block(TIMEOUT);
+
+        assertNotNull(response);
+        assertAll(
+                () -> assertEquals(HttpStatus.OK,  response.getStatusCode()),
+                () -> assertEquals("Programing",   response.getBody().name()),
+                () -> assertNotNull(response.getHeaders().getETag())
+        );
+    }
+
+    @Test
+    @DisplayName("Lookup of not existing habit or user should return 404 with the error message")
+    void getNotExistingResourceShouldReturnNotFound() {
+        for (String uri : List.of("/api/habit/Not existing habit", "/api/user/notExisting@gmail.com", "/api/user/notExisting@gmail.com/habits")) {
+            ResponseEntity<Error> response = webClient.get()
+                                                      .uri(uri)
+                                                      .exchangeToMono(clientResponse -> clientResponse.toEntity(Error.class))
+                                                      .block(TIMEOUT);
+
+            assertNotNull(response);
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), uri);
+            assertTrue(response.getBody().message().contains("not found"), uri);
+        }
+    }
+
+    @Test
+    @DisplayName("Pages of users should be linked with the cursor until the last page")
+    void getUsersShouldReturnCursorPages() {
+        CursorPageDTO<UserDTO> firstPage = getUsersPage(null);
+        CursorPageDTO<UserDTO> secondPage = getUsersPage(firstPage.nextCursor());
+
+        assertAll(
+                () -> assertEquals(1, firstPage.content().size()),
+                () -> assertEquals(firstPage.content().getFirst().email(), firstPage.nextCursor()),
+                () -> assertTrue(secondPage.content().getFirst().email().compareTo(firstPage.nextCursor()) > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Habits should be streamed as NDJSON only when the client asks for it")
+    void getHabitsShouldStreamNdjsonWhenRequested() {
+        List<HabitDTO> streamedHabits = webClient.get()
+                                                 .uri("/api/habits")
+                                                 .accept(MediaType.APPLICATION_NDJSON)
+                                                 .retrieve()
+                                                 .bodyToFlux(HabitDTO.class)
+                                                 .collectList()
+                                                 .block(TIMEOUT);
+        CursorPageDTO<HabitDTO> page = webClient.get()
+                                                .uri("/api/habits")
+                                                .retrieve()
+                                                .bodyToMono(new ParameterizedTypeReference<CursorPageDTO<HabitDTO>>() { })
+                                                .block(TIMEOUT);
+
+        assertNotNull(streamedHabits);
+        assertNotNull(page);
+        assertFalse(streamedHabits.isEmpty());
+        assertTrue(streamedHabits.size() >= page.content().size());
+        assertTrue(streamedHabits.stream().map(HabitDTO::name).collect(Collectors.toSet())
+                                 .containsAll(page.content().stream().map(HabitDTO::name).toList()));
+    }
+
+    private CursorPageDTO<UserDTO> getUsersPage(String after) {
+        return webClient.get()
+                        .uri(uriBuilder -> uriBuilder.path("/api/user")
+                                                     .queryParam("size", 1)
+                                                     .queryParamIfPresent("after", Optional.ofNullable(after))
+                                                     .build())
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<CursorPageDTO<UserDTO>>() { })
+                        .block(TIMEOUT);
+    }
+}
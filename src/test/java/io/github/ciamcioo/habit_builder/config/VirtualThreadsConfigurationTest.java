@@ -0,0 +1,47 @@
+package io.github.ciamcioo.habit_builder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadsConfigurationTest {
+
+    // HELPER OBJECTS
+    private HikariDataSource dataSource;
+    private final VirtualThreadsProperties properties = new VirtualThreadsProperties(20, Duration.ofSeconds(2));
+
+    @BeforeEach
+    void setup() {
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(20);
+        dataSource.setConnectionTimeout(2000);
+    }
+
+    @Test
+    @DisplayName("Connection pool within configured limits should pass the validation")
+    void connectionPoolWithinLimitsShouldPassValidation() {
+        assertDoesNotThrow(() -> VirtualThreadsConfiguration.validateConnectionPool(dataSource, properties));
+    }
+
+    @Test
+    @DisplayName("Connection pool larger than the configured limit should fail the startup with IllegalStateException")
+    void oversizedConnectionPoolShouldThrowIllegalStateException() {
+        dataSource.setMaximumPoolSize(21);
+
+        assertThrows(IllegalStateException.class, () -> VirtualThreadsConfiguration.validateConnectionPool(dataSource, properties));
+    }
+
+    @Test
+    @DisplayName("Connection timeout longer than the configured limit should fail the startup with IllegalStateException")
+    void tooLongConnectionTimeoutShouldThrowIllegalStateException() {
+        dataSource.setConnectionTimeout(30_000);
+
+        assertThrows(IllegalStateException.class, () -> VirtualThreadsConfiguration.validateConnectionPool(dataSource, properties));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.service.HabitService;
+import io.github.ciamcioo.habit_builder.util.HabitBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class HabitControllerTest {
+    public static final String TEST_HABIT_NAME    = "Entity tag habit";
+    public static final String MISSING_HABIT_NAME = "Missing entity tag habit";
+
+    // TESTED CONTROLLER
+    @Autowired
+    private MockMvc mockMvc;
+
+    // HELPER OBJECTS
+    @Autowired
+    private HabitService habitService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HabitBuilder habitBuilder = HabitBuilder.getInstance();
+    private HabitDTO habitDto;
+
+    @BeforeEach
+    void setup() {
+        // Written habits can't start in the past
+        habitDto = habitBuilder.withTestValues().withName(TEST_HABIT_NAME).withStartDate(LocalDate.now()).buildHabitDto();
+        habitService.addHabit(habitDto);
+    }
+
+    @AfterEach
+    void cleanup() {
+        for (String name : new String[] { TEST_HABIT_NAME, MISSING_HABIT_NAME }) {
+            try {
+                habitService.deleteHabit(name, null);
+            } catch (RuntimeException ignored) {
+                // The habit wasn't created by the test
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Habit lookup with the current entity tag in If-None-Match should return 304 without a body")
+    void getHabitWithMatchingIfNoneMatchShouldReturnNotModified() throws Exception {
+        String entityTag = getEntityTag();
+
+        mockMvc.perform(get("/api/habit/{name}", TEST_HABIT_NAME).header(HttpHeaders.IF_NONE_MATCH, entityTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, entityTag));
+    }
+
+    @Test
+    @DisplayName("Habit update with a stale entity tag in If-Match should return 412 and keep the habit unchanged")
+    void updateHabitWithStaleIfMatchShouldReturnPreconditionFailed() throws Exception {
+        String entityTag = getEntityTag();
+
+        mockMvc.perform(put("/api/habit/{name}", TEST_HABIT_NAME).contentType(MediaType.APPLICATION_JSON)
+                                                                  .content(objectMapper.writeValueAsString(habitBuilder.withReminder(false).buildHabitDto()))
+                                                                  .header(HttpHeaders.IF_MATCH, entityTag))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/habit/{name}", TEST_HABIT_NAME).contentType(MediaType.APPLICATION_JSON)
+                                                                  .content(objectMapper.writeValueAsString(habitDto))
+                                                                  .header(HttpHeaders.IF_MATCH, entityTag))
+               .andExpect(status().isPreconditionFailed());
+
+        assertFalse(habitService.getHabitByName(TEST_HABIT_NAME).reminder());
+    }
+
+    @Test
+    @DisplayName("If-Match * should update only an existing habit, a missing header should create the habit")
+    void updateHabitWithWildcardIfMatchShouldRequireExistingHabit() throws Exception {
+        HabitDTO missingHabit = habitBuilder.withName(MISSING_HABIT_NAME).buildHabitDto();
+
+        mockMvc.perform(put("/api/habit/{name}", TEST_HABIT_NAME).contentType(MediaType.APPLICATION_JSON)
+                                                                  .content(objectMapper.writeValueAsString(habitDto))
+                                                                  .header(HttpHeaders.IF_MATCH, "*"))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/habit/{name}", MISSING_HABIT_NAME).contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(missingHabit))
+                                                                     .header(HttpHeaders.IF_MATCH, "*"))
+               .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/habit/{name}", MISSING_HABIT_NAME).contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(missingHabit)))
+               .andExpect(status().isOk());
+
+        assertEquals(MISSING_HABIT_NAME, habitService.getHabitByName(MISSING_HABIT_NAME).name());
+    }
+
+    private String getEntityTag() throws Exception {
+        String entityTag = mockMvc.perform(get("/api/habit/{name}", TEST_HABIT_NAME))
+                                  .andExpect(status().isOk())
+                                  .andReturn()
+                                  .getResponse()
+                                  .getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(entityTag);
+        return entityTag;
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.ciamcioo.habit_builder.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.service.UserService;
+import io.github.ciamcioo.habit_builder.util.UserBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserControllerTest {
+    public static final String TEST_EMAIL_ADDRESS    = "entity.tag@gmail.com";
+    public static final String MISSING_EMAIL_ADDRESS = "missing.entity.tag@gmail.com";
+
+    // TESTED CONTROLLER
+    @Autowired
+    private MockMvc mockMvc;
+
+    // HELPER OBJECTS
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UserBuilder userBuilder = UserBuilder.getInstance();
+    private UserDTO userDto;
+
+    @BeforeEach
+    void setup() {
+        userDto = userBuilder.withTestValues().withEmail(TEST_EMAIL_ADDRESS).withUsername("EntityTag").buildUserDTO();
+        userService.addUser(userDto);
+    }
+
+    @AfterEach
+    void cleanup() {
+        try {
+            userService.deleteUser(TEST_EMAIL_ADDRESS, null);
+        } catch (RuntimeException ignored) {
+            // The user was already deleted by the test
+        }
+    }
+
+    @Test
+    @DisplayName("User lookup with the current entity tag in If-None-Match should return 304 without a body")
+    void getUserWithMatchingIfNoneMatchShouldReturnNotModified() throws Exception {
+        String entityTag = getEntityTag();
+
+        mockMvc.perform(get("/api/user/{email}", TEST_EMAIL_ADDRESS).header(HttpHeaders.IF_NONE_MATCH, entityTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, entityTag));
+    }
+
+    @Test
+    @DisplayName("User update with a stale entity tag in If-Match should return 412 and keep the user unchanged")
+    void updateUserWithStaleIfMatchShouldReturnPreconditionFailed() throws Exception {
+        String entityTag = getEntityTag();
+
+        mockMvc.perform(put("/api/user/{email}", TEST_EMAIL_ADDRESS).contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(userBuilder.withAge(40).buildUserDTO()))
+                                                                     .header(HttpHeaders.IF_MATCH, entityTag))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/user/{email}", TEST_EMAIL_ADDRESS).contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(userDto))
+                                                                     .header(HttpHeaders.IF_MATCH, entityTag))
+               .andExpect(status().isPreconditionFailed());
+
+        assertEquals(40, userService.getUser(TEST_EMAIL_ADDRESS).age());
+    }
+
+    @Test
+    @DisplayName("If-Match * should delete only an existing user and never compare its version")
+    void deleteUserWithWildcardIfMatchShouldRequireExistingUser() throws Exception {
+        mockMvc.perform(delete("/api/user/{email}", MISSING_EMAIL_ADDRESS).header(HttpHeaders.IF_MATCH, "*"))
+               .andExpect(status().isNotFound());
+
+        mockMvc.perform(put("/api/user/{email}", TEST_EMAIL_ADDRESS).contentType(MediaType.APPLICATION_JSON)
+                                                                     .content(objectMapper.writeValueAsString(userBuilder.withAge(40).buildUserDTO())))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/user/{email}", TEST_EMAIL_ADDRESS).header(HttpHeaders.IF_MATCH, "*"))
+               .andExpect(status().isNoContent());
+    }
+
+    private String getEntityTag() throws Exception {
+        String entityTag = mockMvc.perform(get("/api/user/{email}", TEST_EMAIL_ADDRESS))
+                                  .andExpect(status().isOk())
+                                  .andReturn()
+                                  .getResponse()
+                                  .getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(entityTag);
+        return entityTag;
+    }
+}
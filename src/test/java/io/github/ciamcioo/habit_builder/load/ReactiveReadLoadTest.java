@@ -0,0 +1,61 @@
+package io.github.ciamcioo.habit_builder.load;
+
+import io.github.ciamcioo.habit_builder.config.ReactiveReadServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Same read workload against the MVC endpoints on the servlet container and the reactive read API on Netty
+@Tag("load")
+@ActiveProfiles("reactive")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "habit-builder.reactive.port=0",
+                "spring.jpa.show-sql=false",
+                "habit-builder.logging.call-sample-rate=0.0",
+                "habit-builder.logging.return-sample-rate=0.0"
+        }
+)
+public class ReactiveReadLoadTest {
+    public static final int     CONCURRENT_CLIENTS      = 1_000;
+    public static final Pattern EVENT_LOOP_THREAD_NAMES = Pattern.compile("reactive-read-.+");
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadLoadTest.class);
+
+    @LocalServerPort
+    private int mvcPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Test
+    @DisplayName("The MVC and the reactive read API should serve the same workload without failed requests")
+    void mvcAndReactiveReadApiShouldServeSameWorkload() throws InterruptedException {
+        // Warm up both paths first, so neither run pays for class loading and JIT compilation alone
+        ReadWorkload.run("MVC warm-up", mvcPort, CONCURRENT_CLIENTS / 10, ReadWorkload.SERVLET_THREAD_NAMES);
+        ReadWorkload.run("Reactive warm-up", reactiveReadServer.getPort(), CONCURRENT_CLIENTS / 10, EVENT_LOOP_THREAD_NAMES);
+
+        ReadWorkload.Result mvc = ReadWorkload.run("MVC", mvcPort, CONCURRENT_CLIENTS, ReadWorkload.SERVLET_THREAD_NAMES);
+        ReadWorkload.Result reactive = ReadWorkload.run("Reactive", reactiveReadServer.getPort(), CONCURRENT_CLIENTS, EVENT_LOOP_THREAD_NAMES);
+
+        log.info("Reactive read API served {}x the MVC throughput with {} peak event loop threads against {} peak servlet threads",
+                 String.format("%.2f", reactive.requestsPerSecond() / mvc.requestsPerSecond()),
+                 reactive.peakServerThreads(), mvc.peakServerThreads());
+
+        assertAll(
+                () -> assertEquals(0, mvc.failedRequests()),
+                () -> assertEquals(0, reactive.failedRequests())
+        );
+    }
+}
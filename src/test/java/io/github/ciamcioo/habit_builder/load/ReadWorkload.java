@@ -0,0 +1,158 @@
+package io.github.ciamcioo.habit_builder.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Concurrent clients on virtual threads send the same read requests, the peak counts only the platform threads
+// of the server pool under test, picked by their names
+final class ReadWorkload {
+    public static final int REQUESTS_PER_CLIENT = 10;
+    // Tomcat names its workers after the connector, "http-nio-auto-1-exec-3" when started on a random port
+    public static final Pattern SERVLET_THREAD_NAMES = Pattern.compile("http-nio-.+-exec-\\d+");
+    public static final List<String> TESTED_ENDPOINTS = List.of(
+            "/api/habits",
+            "/api/habit/Programing",
+            "/api/user",
+            "/api/user/jhonyDoo@gov.com"
+    );
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWorkload.class);
+    private static final long THREAD_SAMPLING_INTERVAL_MILLIS = 50;
+
+    private ReadWorkload() { }
+
+    static Result run(String name, int port, int concurrentClients, Pattern serverThreadNames) throws InterruptedException {
+        AtomicInteger successfulRequests = new AtomicInteger();
+        AtomicInteger failedRequests = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ServerThreadSampler threadSampler = new ServerThreadSampler(serverThreadNames);
+
+        long start;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                                               .connectTimeout(Duration.ofSeconds(30))
+                                               .build()) {
+
+            for (int client = 0; client < concurrentClients; client++) {
+                int clientNumber = client;
+                clients.submit(() -> {
+                    startSignal.await();
+                    for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                        String endpoint = TESTED_ENDPOINTS.get((clientNumber + request) % TESTED_ENDPOINTS.size());
+                        sendRequest(httpClient, port, endpoint, successfulRequests, failedRequests);
+                    }
+                    return null;
+                });
+            }
+
+            threadSampler.start();
+            start = System.nanoTime();
+            startSignal.countDown();
+            clients.shutdown();
+            assertTrue(clients.awaitTermination(5, TimeUnit.MINUTES));
+        } finally {
+            threadSampler.stop();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Result result = new Result(
+                successfulRequests.get(),
+                failedRequests.get(),
+                successfulRequests.get() / elapsedSeconds,
+                threadSampler.peakThreads()
+        );
+
+        log.info("{}: served {} requests from {} concurrent clients in {} s ({} requests/s), {} failed, {} peak threads matching {}",
+                 name, result.successfulRequests(), concurrentClients, String.format("%.2f", elapsedSeconds),
+                 String.format("%.0f", result.requestsPerSecond()), result.failedRequests(), result.peakServerThreads(), serverThreadNames);
+        return result;
+    }
+
+    private static void sendRequest(HttpClient httpClient, int port, String endpoint, AtomicInteger successfulRequests, AtomicInteger failedRequests) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint))
+                                         .timeout(Duration.ofSeconds(60))
+                                         .GET()
+                                         .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                successfulRequests.incrementAndGet();
+            } else {
+                failedRequests.incrementAndGet();
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failedRequests.incrementAndGet();
+        }
+    }
+
+    record Result(int successfulRequests, int failedRequests, double requestsPerSecond, int peakServerThreads) {
+
+    }
+
+    // Live threads are sampled while the workload runs, the JVM only tracks the peak of all threads of the process
+    private static final class ServerThreadSampler {
+        private final Pattern threadNames;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicInteger peakThreads = new AtomicInteger();
+        private Thread sampler;
+
+        private ServerThreadSampler(Pattern threadNames) {
+            this.threadNames = threadNames;
+        }
+
+        private void start() {
+            running.set(true);
+            sampler = Thread.ofPlatform().name("load-thread-sampler").daemon().start(() -> {
+                while (running.get()) {
+                    sample();
+                    try {
+                        Thread.sleep(THREAD_SAMPLING_INTERVAL_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        private void stop() throws InterruptedException {
+            if (sampler == null) {
+                return;
+            }
+            running.set(false);
+            sampler.join();
+            sample();
+        }
+
+        private void sample() {
+            int serverThreads = (int) Thread.getAllStackTraces()
+                                            .keySet()
+                                            .stream()
+                                            .filter(thread -> threadNames.matcher(thread.getName()).matches())
+                                            .count();
+            peakThreads.accumulateAndGet(serverThreads, Math::max);
+        }
+
+        private int peakThreads() {
+            return peakThreads.get();
+        }
+    }
+}
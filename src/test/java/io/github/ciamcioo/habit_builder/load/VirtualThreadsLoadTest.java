@@ -0,0 +1,36 @@
+package io.github.ciamcioo.habit_builder.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("load")
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "habit-builder.logging.call-sample-rate=0.0",
+                "habit-builder.logging.return-sample-rate=0.0"
+        }
+)
+public class VirtualThreadsLoadTest {
+    public static final int CONCURRENT_CLIENTS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Thousands of concurrent clients should be served without failed requests")
+    void concurrentClientsShouldBeServed() throws InterruptedException {
+        ReadWorkload.Result result = ReadWorkload.run("Virtual threads", port, CONCURRENT_CLIENTS, ReadWorkload.SERVLET_THREAD_NAMES);
+
+        assertEquals(0, result.failedRequests());
+        assertEquals(CONCURRENT_CLIENTS * ReadWorkload.REQUESTS_PER_CLIENT, result.successfulRequests());
+    }
+}
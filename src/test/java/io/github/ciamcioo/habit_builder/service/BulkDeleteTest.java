@@ -0,0 +1,105 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitKeys;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BulkDeleteTest {
+    public static final String FEW_HABITS_EMAIL  = "few.habits@delete.test";
+    public static final String MANY_HABITS_EMAIL = "many.habits@delete.test";
+    public static final int    MANY_HABITS_COUNT = 10_000;
+
+    // TESTED SERVICE
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private HabitService habitService;
+
+    // HELPER OBJECTS
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deleting a user should run the same number of statements for one habit and for 10k habits")
+    void deleteUserShouldRunConstantNumberOfStatements() {
+        createUserWithHabits(FEW_HABITS_EMAIL, "fewDeleteHabits", 1);
+        createUserWithHabits(MANY_HABITS_EMAIL, "manyDeleteHabits", MANY_HABITS_COUNT);
+
+        long fewHabitsStatements  = countStatements(() -> userService.deleteUser(FEW_HABITS_EMAIL, null));
+        long manyHabitsStatements = countStatements(() -> userService.deleteUser(MANY_HABITS_EMAIL, null));
+
+        assertAll(
+                () -> assertEquals(fewHabitsStatements, manyHabitsStatements),
+                () -> assertEquals(1, statistics.getEntityLoadCount()),
+                () -> assertFalse(userRepository.existsByEmail(MANY_HABITS_EMAIL)),
+                () -> assertTrue(habitRepository.findKeysByNameIn(List.of("manyDeleteHabits habit 00000")).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Deleting habits by names should delete only the existing habits and return their names")
+    void deleteHabitsShouldReturnDeletedNames() {
+        User user = createUserWithHabits("names@delete.test", "namesDelete", 3);
+
+        List<String> deletedNames = habitService.deleteHabits(List.of("namesDelete habit 00000", "namesDelete habit 00002", "missing habit"));
+
+        assertEquals(List.of("namesDelete habit 00000", "namesDelete habit 00002"), deletedNames.stream().sorted().toList());
+        assertEquals(List.of("namesDelete habit 00001"),
+                     habitRepository.findKeysByUserId(user.getId()).stream().map(HabitKeys::name).toList());
+
+        userService.deleteUser("names@delete.test", null);
+    }
+
+    private long countStatements(Runnable operation) {
+        statistics.clear();
+        operation.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User createUserWithHabits(String email, String username, int habitCount) {
+        User user = userRepository.saveAndFlush(new User(email, username, "Foo", "Bar", 30));
+
+        habitRepository.insertAll(
+                IntStream.range(0, habitCount)
+                         .mapToObj(index -> {
+                             Habit habit = new Habit(String.format("%s habit %05d", username, index), HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusMonths(1), false);
+                             habit.setUser(user);
+                             return habit;
+                         })
+                         .toList()
+        );
+        return user;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class BulkInsertTest {
+    public static final String EMAIL = "managed@insert.test";
+
+    // TESTED REPOSITORY
+    @Autowired
+    private HabitRepository habitRepository;
+
+    // HELPER OBJECTS
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanup() {
+        userService.deleteUser(EMAIL, null);
+    }
+
+    @Test
+    @DisplayName("Inserting entities should detach only the inserted entities and keep the caller's managed entities attached")
+    void insertAllShouldDetachOnlyInsertedEntities() {
+        userRepository.saveAndFlush(new User(EMAIL, "managedInsert", "Foo", "Bar", 30));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findUserByEmail(EMAIL).orElseThrow();
+            Habit habit = new Habit("managedInsert habit", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusMonths(1), false);
+            habit.setUser(user);
+
+            habitRepository.insertAll(List.of(habit));
+
+            assertAll(
+                    () -> assertTrue(entityManager.contains(user)),
+                    () -> assertFalse(entityManager.contains(habit))
+            );
+        });
+    }
+}
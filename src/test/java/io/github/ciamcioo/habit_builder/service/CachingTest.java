@@ -0,0 +1,188 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.util.HabitBuilder;
+import io.github.ciamcioo.habit_builder.util.UserBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+public class CachingTest {
+    public static final String TEST_HABIT_NAME    = "Foo_habit";
+    public static final String TEST_EMAIL_ADDRESS = "fooBar@gmail.com";
+
+    // TESTED SERVICES
+    @Autowired
+    private HabitService habitService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // MOCKED REPOSITORIES
+    @MockitoBean
+    private HabitRepository habitRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    // HELPER OBJECTS
+    private final HabitBuilder habitBuilder = HabitBuilder.getInstance();
+    private final UserBuilder  userBuilder  = UserBuilder.getInstance();
+    private Habit habit;
+    private User  user;
+
+    @BeforeEach
+    void setup() {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        habit = habitBuilder.withTestValues().withName(TEST_HABIT_NAME).buildHabit();
+        user = userBuilder.withTestValues().withEmail(TEST_EMAIL_ADDRESS).buildUser();
+
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.of(habit));
+        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("Repeated getHabitByName() calls should be served from the cache")
+    void getHabitByNameShouldBeCached() {
+        habitService.getHabitByName(TEST_HABIT_NAME);
+        habitService.getHabitByName(TEST_HABIT_NAME);
+
+        verify(habitRepository, times(1)).findHabitByName(TEST_HABIT_NAME);
+        assertNotNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+    }
+
+    @Test
+    @DisplayName("The deleteHabit() method should evict deleted habit from the cache")
+    void deleteHabitShouldEvictCachedHabit() {
+        habitService.getHabitByName(TEST_HABIT_NAME);
+        habitService.deleteHabit(TEST_HABIT_NAME, null);
+
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+    }
+
+    @Test
+    @DisplayName("The deleteHabitById() method should evict deleted habit from the cache")
+    void deleteHabitByIdShouldEvictCachedHabit() {
+        when(habitRepository.findById(habit.getUuid())).thenReturn(Optional.of(habit));
+
+        habitService.getHabitByName(TEST_HABIT_NAME);
+        habitService.deleteHabitById(habit.getUuid(), null);
+
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+    }
+
+    @Test
+    @DisplayName("Deleted habit should stay cached until the surrounding transaction commits and after a rollback")
+    void deleteHabitShouldEvictCachedHabitOnlyAfterCommit() {
+        habitService.getHabitByName(TEST_HABIT_NAME);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            habitService.deleteHabit(TEST_HABIT_NAME, null);
+
+            assertNotNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+            status.setRollbackOnly();
+        });
+        assertNotNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+
+        transactionTemplate.executeWithoutResult(status -> habitService.deleteHabit(TEST_HABIT_NAME, null));
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+    }
+
+    @Test
+    @DisplayName("The updateHabit() method should evict both the previous and the updated habit name")
+    void updateHabitShouldEvictPreviousAndUpdatedName() {
+        String updatedName = "Updated_habit";
+        when(habitRepository.findHabitByName(updatedName)).thenReturn(Optional.empty());
+
+        habitService.getHabitByName(TEST_HABIT_NAME);
+        habitService.updateHabit(TEST_HABIT_NAME, habitBuilder.withName(updatedName).buildHabitDto(), null);
+
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(TEST_HABIT_NAME));
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(updatedName));
+    }
+
+    @Test
+    @DisplayName("Lookups that end with HabitNotFoundException should not be cached")
+    void missingHabitShouldNotBeCached() {
+        when(habitRepository.findHabitByName("missing")).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> habitService.getHabitByName("missing"));
+
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get("missing"));
+    }
+
+    @Test
+    @DisplayName("Repeated getUser() calls should be served from the cache until the user is updated")
+    void getUserShouldBeCachedUntilUpdate() {
+        userService.getUser(TEST_EMAIL_ADDRESS);
+        userService.getUser(TEST_EMAIL_ADDRESS);
+
+        verify(userRepository, times(1)).findUserByEmail(TEST_EMAIL_ADDRESS);
+
+        userService.updateUser(TEST_EMAIL_ADDRESS, userBuilder.withAge(40).buildUserDTO(), null);
+
+        assertNull(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(TEST_EMAIL_ADDRESS));
+    }
+
+    @Test
+    @DisplayName("Updated user should stay cached until the surrounding transaction commits and after a rollback")
+    void updateUserShouldEvictCachedUserOnlyAfterCommit() {
+        userService.getUser(TEST_EMAIL_ADDRESS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updateUser(TEST_EMAIL_ADDRESS, userBuilder.withAge(40).buildUserDTO(), null);
+
+            assertNotNull(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(TEST_EMAIL_ADDRESS));
+            status.setRollbackOnly();
+        });
+        assertNotNull(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(TEST_EMAIL_ADDRESS));
+
+        transactionTemplate.executeWithoutResult(status -> userService.updateUser(TEST_EMAIL_ADDRESS, userBuilder.withAge(40).buildUserDTO(), null));
+        assertNull(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(TEST_EMAIL_ADDRESS));
+    }
+
+    @Test
+    @DisplayName("The deleteUser() method should evict deleted user from the cache")
+    void deleteUserShouldEvictCachedUser() {
+        userService.getUser(TEST_EMAIL_ADDRESS);
+        userService.deleteUser(TEST_EMAIL_ADDRESS, null);
+
+        assertNull(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(TEST_EMAIL_ADDRESS));
+    }
+
+    @Test
+    @DisplayName("Repeated getStats() calls within the TTL should be served from the stats cache")
+    void getStatsShouldBeCached() {
+        statsService.getStats();
+        statsService.getStats();
+
+        verify(habitRepository, times(1)).countByFrequency();
+        assertNotNull(cacheManager.getCache(CacheConfiguration.STATS_CACHE).get("summary"));
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
+import io.github.ciamcioo.habit_builder.repository.HabitCheckInRepository;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitSchedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CheckInServiceTest {
+    // CONSTANT
+    public static final String    TEST_HABIT_NAME = "testHabit";
+    public static final UUID      TEST_HABIT_ID   = UUID.fromString("0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3");
+    public static final LocalDate TODAY           = LocalDate.of(2025, Month.MARCH, 10);
+    public static final int       TEST_CHUNK_SIZE = 2;
+
+    // TESTED SERVICE
+    private CheckInService checkInService;
+
+    // MOCK SERVICE
+    private HabitRepository        habitRepository;
+    private HabitCheckInRepository checkInRepository;
+    private StreakService          streakService;
+
+    // HELPER OBJECTS
+    private final HabitSchedule schedule = new HabitSchedule(TEST_HABIT_ID, HabitFrequency.DAILY, TODAY.minusMonths(1), TODAY.plusMonths(1));
+
+    @BeforeEach
+    void setup() {
+        habitRepository = mock(HabitRepository.class);
+        checkInRepository = mock(HabitCheckInRepository.class);
+        streakService = mock(StreakService.class);
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        checkInService = new CheckInManagementService(habitRepository, checkInRepository, streakService, new ImportProperties(TEST_CHUNK_SIZE), clock);
+
+        when(habitRepository.findScheduleByName(TEST_HABIT_NAME)).thenReturn(Optional.of(schedule));
+        when(checkInRepository.insertMissing(eq(TEST_HABIT_ID), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("Check-in without dates should be recorded for the current day")
+    void checkInWithoutDatesShouldUseToday() {
+        ImportReportDTO report = checkInService.checkIn(TEST_HABIT_NAME, List.of());
+
+        assertEquals(List.of(new ImportResultDTO(TODAY.toString(), ImportStatus.CREATED)), report.results());
+        verify(checkInRepository).insertMissing(TEST_HABIT_ID, List.of(TODAY));
+    }
+
+    @Test
+    @DisplayName("Check-in report should mark created, existing and duplicated dates in the request order")
+    void checkInShouldReportStatusOfEveryDate() {
+        LocalDate yesterday = TODAY.minusDays(1);
+        when(checkInRepository.insertMissing(TEST_HABIT_ID, List.of(TODAY, yesterday))).thenReturn(List.of(yesterday));
+
+        ImportReportDTO report = checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY, yesterday, TODAY));
+
+        assertEquals(List.of(
+                new ImportResultDTO(TODAY.toString(),     ImportStatus.ALREADY_EXISTS),
+                new ImportResultDTO(yesterday.toString(), ImportStatus.CREATED),
+                new ImportResultDTO(TODAY.toString(),     ImportStatus.DUPLICATE)
+        ), report.results());
+        assertEquals(1, report.created());
+    }
+
+    @Test
+    @DisplayName("Check-in dates should be inserted in chunks of configured size")
+    void checkInShouldInsertDatesInChunks() {
+        checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY, TODAY.minusDays(1), TODAY.minusDays(2)));
+
+        verify(checkInRepository).insertMissing(TEST_HABIT_ID, List.of(TODAY, TODAY.minusDays(1)));
+        verify(checkInRepository).insertMissing(TEST_HABIT_ID, List.of(TODAY.minusDays(2)));
+    }
+
+    @Test
+    @DisplayName("Check-in in the future should throw IllegalArgumentException without touching the check-in table")
+    void futureCheckInShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY.plusDays(1))));
+
+        verify(checkInRepository, never()).insertMissing(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Check-in before the start date of the habit should throw IllegalArgumentException")
+    void checkInOutsideOfHabitPeriodShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY.minusMonths(2))));
+    }
+
+    @Test
+    @DisplayName("Check-in of not existing habit should throw HabitNotFoundException")
+    void checkInOfNotExistingHabitShouldThrowHabitNotFoundException() {
+        when(habitRepository.findScheduleByName(TEST_HABIT_NAME)).thenReturn(Optional.empty());
+
+        assertThrows(HabitNotFoundException.class, () -> checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY)));
+    }
+
+    @Test
+    @DisplayName("Check-ins should be read from the start date of the habit until today by default")
+    void getCheckInsShouldDefaultToHabitPeriodUntilToday() {
+        when(checkInRepository.findDates(TEST_HABIT_ID, schedule.startDate(), TODAY)).thenReturn(List.of(TODAY));
+
+        assertEquals(List.of(TODAY), checkInService.getCheckIns(TEST_HABIT_NAME, null, null));
+    }
+
+    @Test
+    @DisplayName("Check-in range with the beginning after its end should throw IllegalArgumentException")
+    void getCheckInsWithInvertedRangeShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> checkInService.getCheckIns(TEST_HABIT_NAME, TODAY, TODAY.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Only newly inserted check-ins should be passed to the streak service")
+    void checkInShouldRecordOnlyInsertedDatesInStreak() {
+        LocalDate yesterday = TODAY.minusDays(1);
+        when(checkInRepository.insertMissing(TEST_HABIT_ID, List.of(TODAY, yesterday))).thenReturn(List.of(yesterday));
+
+        checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY, yesterday));
+
+        verify(streakService).recordCheckIns(TEST_HABIT_ID, List.of(yesterday));
+    }
+
+    @Test
+    @DisplayName("Deleting an existing check-in should rebuild the streak of the habit")
+    void deleteCheckInShouldRebuildStreak() {
+        when(checkInRepository.deleteCheckIn(TEST_HABIT_ID, TODAY)).thenReturn(1);
+
+        checkInService.deleteCheckIn(TEST_HABIT_NAME, TODAY);
+
+        verify(streakService).rebuildStreak(TEST_HABIT_ID);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CheckInUpsertTest {
+    public static final String    TEST_HABIT_NAME = "Check-in upsert habit";
+    public static final LocalDate TODAY           = LocalDate.now();
+
+    // TESTED SERVICE
+    @Autowired
+    private CheckInService checkInService;
+
+    // HELPER OBJECTS
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private HabitService habitService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        habitRepository.saveAndFlush(new Habit(TEST_HABIT_NAME, HabitFrequency.DAILY, TODAY.minusDays(10), TODAY.plusMonths(1), false));
+    }
+
+    @AfterEach
+    void cleanup() {
+        habitService.deleteHabit(TEST_HABIT_NAME, null);
+    }
+
+    @Test
+    @DisplayName("Check-in should insert only the dates missing in the database and report the stored ones as already existing")
+    void checkInShouldInsertOnlyMissingDates() {
+        checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY, TODAY.minusDays(1)));
+
+        ImportReportDTO report = checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY.minusDays(1), TODAY.minusDays(2)));
+
+        assertAll(
+                () -> assertEquals(List.of(ImportStatus.ALREADY_EXISTS, ImportStatus.CREATED),
+                                   report.results().stream().map(ImportResultDTO::status).toList()),
+                () -> assertEquals(List.of(TODAY.minusDays(2), TODAY.minusDays(1), TODAY),
+                                   checkInService.getCheckIns(TEST_HABIT_NAME, null, null)),
+                () -> assertEquals(3, habitService.getHabitByName(TEST_HABIT_NAME).currentStreak())
+        );
+    }
+
+    @Test
+    @DisplayName("Concurrent check-ins on different dates should both count towards the streak")
+    void concurrentCheckInsShouldBothCountTowardsStreak() throws Exception {
+        // The second check-in reads the habit before the first one commits and then has to wait for its lock
+        CountDownLatch firstCheckedIn = new CountDownLatch(1);
+        CountDownLatch secondReading  = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY.minusDays(1)));
+                firstCheckedIn.countDown();
+                await(secondReading);
+            }));
+            Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                await(firstCheckedIn);
+                checkInService.getCheckIns(TEST_HABIT_NAME, null, null);
+                secondReading.countDown();
+                checkInService.checkIn(TEST_HABIT_NAME, List.of(TODAY));
+            }));
+
+            first.get(30, TimeUnit.SECONDS);
+            second.get(30, TimeUnit.SECONDS);
+        }
+
+        assertAll(
+                () -> assertEquals(List.of(TODAY.minusDays(1), TODAY), checkInService.getCheckIns(TEST_HABIT_NAME, null, null)),
+                () -> assertEquals(2, habitService.getHabitByName(TEST_HABIT_NAME).currentStreak()),
+                () -> assertEquals(2, habitService.getHabitByName(TEST_HABIT_NAME).longestStreak())
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ciamcioo.habit_builder.config.ExportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ExportFormat;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.UserHabitRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+public class ExportServiceTest {
+    public static final String HABITS_EMAIL    = "habits@export.test";
+    public static final String NO_HABITS_EMAIL = "no.habits@export.test";
+    public static final int    STREAMED_ROWS   = 2_000;
+
+    // TESTED SERVICE
+    @Autowired
+    private ExportService exportService;
+
+    // HELPER OBJECTS
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.saveAndFlush(new User(HABITS_EMAIL, "exportHabits", "Foo", "Bar", 30));
+        habitRepository.insertAll(List.of(
+                createHabit("Export habit B", user),
+                createHabit("Export habit A", user)
+        ));
+        userRepository.saveAndFlush(new User(NO_HABITS_EMAIL, "exportNoHabits", "Foo", "Bar", 40));
+    }
+
+    @AfterEach
+    void cleanup() {
+        userService.deleteUser(HABITS_EMAIL, null);
+        userService.deleteUser(NO_HABITS_EMAIL, null);
+    }
+
+    @Test
+    @DisplayName("NDJSON export should write one line per user with the habits of the user nested and ordered by name")
+    void ndjsonExportShouldNestHabitsUnderTheirUser() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long users = exportService.exportUsers(output, ExportFormat.NDJSON);
+
+        List<String> lines = readLines(new ByteArrayInputStream(output.toByteArray()));
+        JsonNode withHabits = findLine(lines, HABITS_EMAIL);
+        JsonNode withoutHabits = findLine(lines, NO_HABITS_EMAIL);
+
+        assertAll(
+                () -> assertEquals(lines.size(), users),
+                () -> assertEquals("exportHabits", withHabits.get("username").asText()),
+                () -> assertEquals(2, withHabits.get("habits").size()),
+                () -> assertEquals("Export habit A", withHabits.get("habits").get(0).get("name").asText()),
+                () -> assertEquals("DAILY", withHabits.get("habits").get(0).get("frequency").asText()),
+                () -> assertEquals(LocalDate.of(2026, 1, 1).toString(), withHabits.get("habits").get(0).get("startDate").asText()),
+                () -> assertTrue(withoutHabits.get("habits").isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("CSV export should write a header and one row per habit, a user without habits should keep a row with empty habit columns")
+    void csvExportShouldWriteOneRowPerHabit() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.exportUsers(output, ExportFormat.CSV);
+
+        List<String> lines = readLines(new ByteArrayInputStream(output.toByteArray()));
+        assertAll(
+                () -> assertEquals("email,username,firstName,lastName,age,habitName,frequency,startDate,endDate,reminder,currentStreak,longestStreak", lines.getFirst()),
+                () -> assertEquals(2, lines.stream().filter(line -> line.startsWith(HABITS_EMAIL)).count()),
+                () -> assertTrue(lines.contains("habits@export.test,exportHabits,Foo,Bar,30,\"Export habit A\",DAILY,2026-01-01,2026-12-31,false,0,0")),
+                () -> assertTrue(lines.contains("no.habits@export.test,exportNoHabits,Foo,Bar,40,,,,,,,"))
+        );
+    }
+
+    @Test
+    @DisplayName("File export should replace the target file in one move and leave no partial file behind")
+    void fileExportShouldMoveCompleteFileToTarget(@TempDir Path directory) throws IOException {
+        Path target = directory.resolve("nested").resolve("users.ndjson.gz");
+        Files.writeString(Files.createDirectories(target.getParent()).resolve("users.ndjson.gz"), "stale");
+
+        long users = exportService.exportUsersToFile(target, ExportFormat.NDJSON);
+
+        try (InputStream input = Files.newInputStream(target)) {
+            assertEquals(users, readLines(input).size());
+        }
+        assertFalse(Files.exists(directory.resolve("nested").resolve("users.ndjson.gz.part")));
+    }
+
+    @Test
+    @DisplayName("Rows should be written to the output one at a time while the cursor is read instead of being collected first")
+    void exportShouldWriteRowsWhileCursorIsRead() {
+        UserRepository cursor = mock(UserRepository.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<Integer> outputSizes = new ArrayList<>();
+
+        when(cursor.streamUsersWithHabits(anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<UserHabitRow> rows = invocation.getArgument(1);
+            for (int index = 0; index < STREAMED_ROWS; index++) {
+                rows.accept(new UserHabitRow(index + "@cursor.test", UUID.randomUUID() + "-" + UUID.randomUUID(), "Foo", "Bar", 30,
+                                             "Cursor habit " + UUID.randomUUID(), HabitFrequency.DAILY, LocalDate.of(2026, 1, 1), null, false, 0, 0));
+                outputSizes.add(output.size());
+            }
+            return (long) STREAMED_ROWS;
+        });
+        ExportService cursorExportService = new ExportManagementService(cursor, new ExportProperties(10, Path.of("export"), ExportFormat.NDJSON, Duration.ofMinutes(1)),
+                                                                        objectMapper, Clock.systemUTC());
+
+        long users = cursorExportService.exportUsers(output, ExportFormat.NDJSON);
+
+        assertAll(
+                () -> assertEquals(STREAMED_ROWS, users),
+                () -> assertTrue(outputSizes.get(STREAMED_ROWS / 2) > 0, "Nothing was written before half of the rows were read"),
+                () -> assertTrue(outputSizes.getLast() < output.size())
+        );
+        verify(cursor).streamUsersWithHabits(eq(10), any());
+    }
+
+    private Habit createHabit(String name, User user) {
+        Habit habit = new Habit(name, HabitFrequency.DAILY, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), false);
+        habit.setUser(user);
+        return habit;
+    }
+
+    private List<String> readLines(InputStream gzipInput) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(gzipInput)) {
+            String content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return new ArrayList<>(content.lines().toList());
+        }
+    }
+
+    private JsonNode findLine(List<String> lines, String email) throws IOException {
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            if (email.equals(node.get("email").asText())) {
+                return node;
+            }
+        }
+        return fail("No exported line for " + email);
+    }
+}
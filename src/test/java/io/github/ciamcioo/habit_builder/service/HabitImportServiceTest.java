@@ -0,0 +1,177 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ImportFormat;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportLineResultDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportResultDTO;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class HabitImportServiceTest {
+    public static final int TEST_CHUNK_SIZE = 2;
+
+    // TESTED SERVICE
+    private HabitImportService habitImportService;
+
+    // MOCK SERVICE
+    private HabitService habitService;
+
+    // HELPER OBJECTS
+    private final List<ImportLineResultDTO> results = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        habitService = mock(HabitService.class);
+        when(habitService.importHabits(anyList())).thenAnswer(invocation -> ImportReportDTO.of(
+                ((List<HabitDTO>) invocation.getArgument(0)).stream()
+                                                           .map(habit -> new ImportResultDTO(habit.name(), ImportStatus.CREATED))
+                                                           .toList()
+        ));
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                                              .addModule(new JavaTimeModule())
+                                              .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                              .build();
+        habitImportService = new HabitImportManagementService(habitService, Validation.buildDefaultValidatorFactory().getValidator(),
+                                                              new ImportProperties(TEST_CHUNK_SIZE), objectMapper);
+    }
+
+    @Test
+    @DisplayName("Records should be imported in chunks no larger than the configured chunk size")
+    @SuppressWarnings("unchecked")
+    void importHabitsShouldImportRecordsInChunks() {
+        habitImportService.importHabits(ndjson(
+                "{\"name\":\"First habit\",\"frequency\":\"DAILY\"}",
+                "{\"name\":\"Second habit\",\"frequency\":\"WEEKLY\"}",
+                "{\"name\":\"Third habit\",\"frequency\":\"MONTHLY\"}"
+        ), ImportFormat.NDJSON, results::add);
+
+        ArgumentCaptor<List<HabitDTO>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(habitService, times(2)).importHabits(chunks.capture());
+
+        assertAll(
+                () -> assertEquals(List.of(2, 1), chunks.getAllValues().stream().map(List::size).toList()),
+                () -> assertEquals(List.of(1L, 2L, 3L), results.stream().map(ImportLineResultDTO::line).toList()),
+                () -> assertTrue(results.stream().allMatch(result -> result.status() == ImportStatus.CREATED))
+        );
+    }
+
+    @Test
+    @DisplayName("Invalid records should be reported with their line while the other records are imported")
+    void importHabitsShouldReportInvalidRecordsAndContinue() {
+        habitImportService.importHabits(ndjson(
+                "{\"name\":\"First habit\",\"frequency\":\"HOURLY\"}",
+                "{\"name\":\"x\",\"frequency\":\"DAILY\"}",
+                "{\"name\":\"Third habit\",\"frequency\":\"DAILY\"}"
+        ), ImportFormat.NDJSON, results::add);
+
+        assertAll(
+                () -> assertEquals(new ImportLineResultDTO(3, "Third habit", ImportStatus.CREATED), results.getLast()),
+                () -> assertEquals(ImportStatus.INVALID, results.get(0).status()),
+                () -> assertEquals(1, results.get(0).line()),
+                () -> assertEquals(new ImportLineResultDTO(2, "x", ImportStatus.INVALID, "Habit name must have 3 to 255 characters"), results.get(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Null record should be reported as invalid while the other records are imported")
+    void importHabitsShouldReportNullRecordAsInvalid() {
+        habitImportService.importHabits(ndjson(
+                "{\"name\":\"First habit\",\"frequency\":\"DAILY\"}",
+                "null",
+                "{\"name\":\"Third habit\",\"frequency\":\"DAILY\"}"
+        ), ImportFormat.NDJSON, results::add);
+
+        assertAll(
+                () -> assertEquals(3, results.size()),
+                () -> assertEquals(2, results.get(0).line()),
+                () -> assertEquals(ImportStatus.INVALID, results.get(0).status()),
+                () -> assertNull(results.get(0).key()),
+                () -> assertEquals(new ImportLineResultDTO(1, "First habit", ImportStatus.CREATED), results.get(1)),
+                () -> assertEquals(new ImportLineResultDTO(3, "Third habit", ImportStatus.CREATED), results.get(2))
+        );
+    }
+
+    @Test
+    @DisplayName("Failed chunk should be reported as invalid for every record of it while the next chunks are imported")
+    @SuppressWarnings("unchecked")
+    void importHabitsShouldReportEveryRecordOfFailedChunk() {
+        when(habitService.importHabits(anyList())).thenThrow(new IllegalStateException("Connection lost"))
+                                                  .thenAnswer(invocation -> ImportReportDTO.of(
+                                                          ((List<HabitDTO>) invocation.getArgument(0)).stream()
+                                                                                                     .map(habit -> new ImportResultDTO(habit.name(), ImportStatus.CREATED))
+                                                                                                     .toList()
+                                                  ));
+
+        habitImportService.importHabits(ndjson(
+                "{\"name\":\"First habit\",\"frequency\":\"DAILY\"}",
+                "{\"name\":\"Second habit\",\"frequency\":\"DAILY\"}",
+                "{\"name\":\"Third habit\",\"frequency\":\"DAILY\"}"
+        ), ImportFormat.NDJSON, results::add);
+
+        String message = "Import of the chunk failed and was rolled back: Connection lost";
+        assertEquals(List.of(new ImportLineResultDTO(1, "First habit", ImportStatus.INVALID, message),
+                             new ImportLineResultDTO(2, "Second habit", ImportStatus.INVALID, message),
+                             new ImportLineResultDTO(3, "Third habit", ImportStatus.CREATED)), results);
+    }
+
+    @Test
+    @DisplayName("CSV records should be read by the header and reported with their line in the file")
+    void importHabitsShouldReadCsvWithHeader() {
+        habitImportService.importHabits(input(
+                "name,frequency,startDate,endDate,reminder\n" +
+                "First habit,DAILY,,,true\n" +
+                "Second habit,WEEKLY,2030-01-01,2031-01-01,false\n"
+        ), ImportFormat.CSV, results::add);
+
+        assertEquals(List.of(new ImportLineResultDTO(2, "First habit", ImportStatus.CREATED),
+                             new ImportLineResultDTO(3, "Second habit", ImportStatus.CREATED)), results);
+    }
+
+    @Test
+    @DisplayName("Malformed record should stop the import after the records read before it are imported")
+    void importHabitsShouldStopOnMalformedRecord() {
+        habitImportService.importHabits(ndjson(
+                "{\"name\":\"First habit\",\"frequency\":\"DAILY\"}",
+                "{\"name\":\"Second",
+                "{\"name\":\"Third habit\",\"frequency\":\"DAILY\"}"
+        ), ImportFormat.NDJSON, results::add);
+
+        verify(habitService).importHabits(anyList());
+        assertAll(
+                () -> assertEquals(2, results.size()),
+                () -> assertEquals(new ImportLineResultDTO(1, "First habit", ImportStatus.CREATED), results.get(0)),
+                () -> assertEquals(ImportStatus.INVALID, results.get(1).status()),
+                () -> assertEquals(2, results.get(1).line())
+        );
+    }
+
+    private InputStream ndjson(String... lines) {
+        return input(String.join("\n", lines) + "\n");
+    }
+
+    private InputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,25 +1,46 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.config.CacheConfiguration;
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.config.PaginationProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
 import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
 import io.github.ciamcioo.habit_builder.service.mapper.HabitMapper;
 import io.github.ciamcioo.habit_builder.util.HabitBuilder;
 import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
 import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.event.HabitChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
 import io.github.ciamcioo.habit_builder.exception.HabitAlreadyExistsException;
 import io.github.ciamcioo.habit_builder.exception.HabitNotFoundException;
+import io.github.ciamcioo.habit_builder.exception.PreconditionFailedException;
 import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitKeys;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
 
 import jakarta.json.Json;
 import jakarta.json.JsonMergePatch;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +49,8 @@ public class HabitServiceTest {
     // CONSTANT
     public static final String HABIT_NOT_FOUND_EXCEPTION_MESSAGE = "Habit with given name: testHabit not found";
     public static final String TEST_HABIT_NAME                   = "testHabit";
+    public static final int    TEST_PAGE_SIZE                    = 2;
+    public static final int    TEST_CHUNK_SIZE                   = 2;
 
     // TESTED SERVICE
     private static HabitService    habitService;
@@ -36,8 +59,11 @@ public class HabitServiceTest {
     private static HabitRepository  habitRepository;
     private static HabitMapper      habitMapper;
     private static MergePatchHelper mergePatchHelper;
+    private static StreakService    streakService;
+    private static ApplicationEventPublisher eventPublisher;
 
     // HELPER OBJECTS
+    private static CacheManager cacheManager;
     private static HabitBuilder habitBuilder = HabitBuilder.getInstance();
     private static Habit        habit;
     private static HabitDTO     habitDto;
@@ -47,7 +73,18 @@ public class HabitServiceTest {
         habitRepository = mock(HabitRepository.class);
         habitMapper = mock(HabitMapper.class);
         mergePatchHelper = mock(MergePatchHelper.class);
-        habitService = Mockito.spy(new HabitManagementService(habitRepository, habitMapper, mergePatchHelper));
+        streakService = mock(StreakService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.HABITS_CACHE);
+        habitService = Mockito.spy(new HabitManagementService(habitRepository, mock(UserRepository.class), habitMapper, mergePatchHelper, new PaginationProperties(TEST_PAGE_SIZE, 10), new ImportProperties(TEST_CHUNK_SIZE), streakService, eventPublisher, cacheManager, Validation.buildDefaultValidatorFactory().getValidator(), Clock.systemDefaultZone()));
+
+        // Mapped habits get their ids on insert, like persisted entities
+        when(habitMapper.toEntity(any(HabitDTO.class))).thenAnswer(invocation -> new Habit());
+        doAnswer(invocation -> {
+            Collection<Habit> habits = invocation.getArgument(0);
+            habits.forEach(insertedHabit -> insertedHabit.setUuid(UUID.randomUUID()));
+            return null;
+        }).when(habitRepository).insertAll(anyCollection());
 
         habitBuilder = habitBuilder.withTestValues();
         habit = habitBuilder.buildHabit();
@@ -55,49 +92,63 @@ public class HabitServiceTest {
     }
 
     @Test
-    @DisplayName("Method getAllHabits() should not return null")
-    void getAllHabitTest() {
-        when(habitRepository.findAll()).thenReturn(new ArrayList<>());
+    @DisplayName("Method getHabitsPage() should start from the beginning of the name ordering if no cursor is passed")
+    void getHabitsPageShouldStartFromBeginningWithoutCursor() {
+        when(habitRepository.findViewsByNameGreaterThan("", Limit.of(TEST_PAGE_SIZE + 1))).thenReturn(List.of());
 
-        assertNotNull(habitService.getAllHabits());
+        CursorPageDTO<HabitDTO> page = habitService.getHabitsPage(null, null);
 
-        verify(habitRepository).findAll();
+        assertTrue(page.content().isEmpty());
+        assertNull(page.nextCursor());
     }
 
     @Test
-    @DisplayName("Method getAllHabits() should return instance of List interface")
-    void getAllHabitResultInstanceOfList() {
-        when(habitRepository.findAll()).thenReturn(new ArrayList<>());
+    @DisplayName("Method getHabitsPage() should return next cursor equal to the name of the last habit if more habits are available")
+    void getHabitsPageShouldReturnNextCursor() {
+        HabitView habit_1 = habitBuilder.withName("Habit_1").buildHabitView();
+        HabitView habit_2 = habitBuilder.withName("Habit_2").buildHabitView();
+        HabitView habit_3 = habitBuilder.withName("Habit_3").buildHabitView();
 
-        assertInstanceOf(List.class, habitService.getAllHabits());
+        when(habitRepository.findViewsByNameGreaterThan("Habit_0", Limit.of(TEST_PAGE_SIZE + 1))).thenReturn(List.of(habit_1, habit_2, habit_3));
 
-        verify(habitRepository).findAll();
+        CursorPageDTO<HabitDTO> page = habitService.getHabitsPage("Habit_0", null);
+
+        assertEquals(TEST_PAGE_SIZE, page.content().size());
+        assertEquals("Habit_2", page.nextCursor());
     }
 
     @Test
-    @DisplayName("Method getAllHabits() should return empty list if no object where added to it")
-    void getAllHabitEmptyListTest() {
-        when(habitRepository.findAll()).thenReturn(new ArrayList<>());
+    @DisplayName("Method getHabitsPage() should limit requested page size to the configured maximum")
+    void getHabitsPageShouldLimitPageSize() {
+        when(habitRepository.findViewsByNameGreaterThan(anyString(), any(Limit.class))).thenReturn(List.of());
 
-        assertTrue(habitService.getAllHabits().isEmpty());
+        habitService.getHabitsPage(null, 1000);
 
-        verify(habitRepository).findAll();
+        verify(habitRepository).findViewsByNameGreaterThan("", Limit.of(11));
     }
 
+    @Test
+    @DisplayName("Method getHabitsPage() should throw IllegalArgumentException if page size is not positive")
+    void getHabitsPageShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> habitService.getHabitsPage(null, 0));
+    }
 
     @Test
-    @DisplayName("Method getAllHabits() should return the list with the same size as the number of habit in the system")
-    void getAllHabitCheckSizeTest() {
-        List<Habit> habits = new ArrayList<>();
-        habits.add(new Habit());
-        habits.add(new Habit());
-        habits.add(new Habit());
+    @DisplayName("Method streamAllHabits() should pass every streamed habit to the consumer")
+    void streamAllHabitsShouldPassEveryHabitToConsumer() {
+        List<HabitDTO> streamedHabits = new ArrayList<>();
+
+        HabitView habit_1 = habitBuilder.withName("Habit_1").buildHabitView();
+        HabitView habit_2 = habitBuilder.withName("Habit_2").buildHabitView();
 
-        when(habitRepository.findAll()).thenReturn(habits);
+        when(habitRepository.streamAllHabits()).thenReturn(Stream.of(habit_1, habit_2));
 
-        assertEquals(habits.size(), habitService.getAllHabits().size());
+        habitService.streamAllHabits(streamedHabits::add);
 
-        verify(habitRepository).findAll();
+        assertAll(
+                () -> assertEquals(List.of(habit_1.name(), habit_2.name()), streamedHabits.stream().map(HabitDTO::name).toList()),
+                () -> assertEquals(List.of(habit_1.id(), habit_2.id()), streamedHabits.stream().map(HabitDTO::id).toList())
+        );
     }
 
     @Test
@@ -124,6 +175,26 @@ public class HabitServiceTest {
         verify(habitRepository).findHabitByName(invalidName);
     }
 
+    @Test
+    @DisplayName("Method getHabitByName() should recompute the current streak of a cached habit on every read")
+    void getHabitByNameShouldRecomputeCurrentStreakOfCachedHabit() {
+        LocalDate lastStreakPeriod = LocalDate.of(2025, 3, 10);
+        Habit streakHabit = mock(Habit.class);
+        when(streakHabit.getLastStreakPeriod()).thenReturn(lastStreakPeriod);
+
+        when(habitMapper.toDTO(streakHabit)).thenReturn(habitDto.withCurrentStreak(3));
+        when(habitRepository.findHabitByName(habit.getName())).thenReturn(Optional.of(streakHabit));
+
+        HabitService sameDayService = new HabitManagementService(habitRepository, mock(UserRepository.class), habitMapper, mergePatchHelper, new PaginationProperties(TEST_PAGE_SIZE, 10), new ImportProperties(TEST_CHUNK_SIZE), streakService, eventPublisher, cacheManager, Validation.buildDefaultValidatorFactory().getValidator(), fixedClock(lastStreakPeriod));
+        HabitService laterService = new HabitManagementService(habitRepository, mock(UserRepository.class), habitMapper, mergePatchHelper, new PaginationProperties(TEST_PAGE_SIZE, 10), new ImportProperties(TEST_CHUNK_SIZE), streakService, eventPublisher, cacheManager, Validation.buildDefaultValidatorFactory().getValidator(), fixedClock(lastStreakPeriod.plusDays(3)));
+
+        assertEquals(3, sameDayService.getHabitByName(habit.getName()).currentStreak());
+        assertEquals(0, laterService.getHabitByName(habit.getName()).currentStreak());
+        assertEquals(3, sameDayService.getHabitByName(habit.getName()).currentStreak());
+
+        verify(habitRepository, times(1)).findHabitByName(habit.getName());
+    }
+
     @Test
     @DisplayName("The addHabit() method should return a String object")
     void addHabitShouldReturnHabitName() {
@@ -183,15 +254,12 @@ public class HabitServiceTest {
         when(habitMapper.toEntity(habitDTO_1)).thenReturn(habitEntity_1);
         when(habitMapper.toEntity(habitDTO_2)).thenReturn(habitEntity_2);
         when(habitMapper.toEntity(habitDTO_3)).thenReturn(habitEntity_3);
-        when(habitRepository.existsByName(anyString())).thenReturn(false);
 
         List<String> resultList = habitService.addHabits(habitDTO_1, habitDTO_2, habitDTO_3, duplicate);
 
-        for (String result : resultList) {
-            assertTrue(expectedResultList.contains(result));
-        }
+        assertEquals(expectedResultList, resultList);
 
-        verify(habitRepository).saveAllAndFlush(anyList());
+        verify(habitRepository, times(2)).insertAll(anyList());
     }
 
     @Test
@@ -210,19 +278,77 @@ public class HabitServiceTest {
         expectedResultList.add(habitDTO_2.name());
         expectedResultList.add(habitDTO_3.name());
 
-        when(habitRepository.existsByName(anyString())).thenReturn(false);
-        when(habitRepository.existsByName(habitDTO_4.name())).thenReturn(true);
+        when(habitRepository.findExistingNames(anyCollection())).thenReturn(Set.of());
+        when(habitRepository.findExistingNames(List.of(habitDTO_3.name(), habitDTO_4.name()))).thenReturn(Set.of(habitDTO_4.name()));
         when(habitMapper.toEntity(habitDTO_1)).thenReturn(habitEntity_1);
         when(habitMapper.toEntity(habitDTO_2)).thenReturn(habitEntity_2);
         when(habitMapper.toEntity(habitDTO_3)).thenReturn(habitEntity_3);
 
         List<String> resultList = habitService.addHabits(habitDTO_1, habitDTO_2, habitDTO_3, habitDTO_4);
 
-        for (String result : resultList) {
-            assertTrue(expectedResultList.contains(result));
-        }
+        assertEquals(expectedResultList, resultList);
+
+        verify(habitRepository, times(2)).insertAll(anyList());
+        verify(habitRepository, never()).existsByName(anyString());
+    }
+
+    @Test
+    @DisplayName("The importHabits() method should check existing names with one query per chunk")
+    void importHabitsShouldQueryExistingNamesOncePerChunk() {
+        List<HabitDTO> habitDTOs = List.of(
+                habitBuilder.withName("Test_habit_1").buildHabitDto(),
+                habitBuilder.withName("Test_habit_2").buildHabitDto(),
+                habitBuilder.withName("Test_habit_3").buildHabitDto(),
+                habitBuilder.withName("Test_habit_4").buildHabitDto(),
+                habitBuilder.withName("Test_habit_5").buildHabitDto()
+        );
+
+        habitService.importHabits(habitDTOs);
+
+        verify(habitRepository, times(3)).findExistingNames(anyCollection());
+        verify(habitRepository, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("The importHabits() method should report status of every habit in the order of the input")
+    void importHabitsShouldReportStatusOfEveryHabit() {
+        HabitDTO habitDTO_1 = habitBuilder.withName("Test_habit_1").buildHabitDto();
+        HabitDTO habitDTO_2 = habitBuilder.withName("Test_habit_2").buildHabitDto();
+        HabitDTO duplicate  = habitBuilder.withName("Test_habit_1").buildHabitDto();
+
+        when(habitRepository.findExistingNames(anyCollection())).thenReturn(Set.of(habitDTO_2.name()));
+
+        ImportReportDTO report = habitService.importHabits(List.of(habitDTO_1, habitDTO_2, duplicate));
+
+        assertAll(
+                () -> assertEquals(1, report.created()),
+                () -> assertEquals(2, report.skipped()),
+                () -> assertEquals(ImportStatus.CREATED,        report.results().get(0).status()),
+                () -> assertEquals(ImportStatus.ALREADY_EXISTS, report.results().get(1).status()),
+                () -> assertEquals(ImportStatus.DUPLICATE,      report.results().get(2).status())
+        );
+    }
 
-        verify(habitRepository).saveAllAndFlush(anyList());
+    @Test
+    @DisplayName("The importHabits() method should publish one created event with ids of all inserted habits")
+    void importHabitsShouldPublishIdsOfInsertedHabits() {
+        List<HabitDTO> habitDTOs = List.of(
+                habitBuilder.withName("Test_habit_1").buildHabitDto(),
+                habitBuilder.withName("Test_habit_2").buildHabitDto(),
+                habitBuilder.withName("Test_habit_3").buildHabitDto()
+        );
+        List<Habit> insertedHabits = new ArrayList<>();
+        doAnswer(invocation -> {
+            Collection<Habit> habits = invocation.getArgument(0);
+            habits.forEach(insertedHabit -> insertedHabit.setUuid(UUID.randomUUID()));
+            insertedHabits.addAll(habits);
+            return null;
+        }).when(habitRepository).insertAll(anyCollection());
+
+        habitService.importHabits(habitDTOs);
+
+        verify(eventPublisher).publishEvent(new HabitChangedEvent(insertedHabits.stream().map(Habit::getUuid).toList(), ChangeType.CREATED));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
     }
 
     @Test
@@ -233,7 +359,7 @@ public class HabitServiceTest {
         when(habitRepository.findHabitByName(habitToUpdateName)).thenReturn(Optional.empty());
         when(habitMapper.toEntity(habitDto)).thenReturn(habit);
 
-        habitService.updateHabit(habitToUpdateName, habitDto);
+        habitService.updateHabit(habitToUpdateName, habitDto, null);
 
         verify(habitService).addHabit(habitDto);
         verify(habitRepository).saveAndFlush(any(Habit.class));
@@ -249,8 +375,9 @@ public class HabitServiceTest {
                                                .buildHabitDto();
 
         when(habitRepository.findHabitByName(habitToUpdateName)).thenReturn(Optional.of(habit));
+        when(habitMapper.toDTO(habit)).thenReturn(updatedHabitDTO);
 
-        assertEquals(updatedHabitDTO, habitService.updateHabit(habitToUpdateName, updatedHabitDTO));
+        assertEquals(updatedHabitDTO, habitService.updateHabit(habitToUpdateName, updatedHabitDTO, null));
 
         verify(habitRepository).saveAndFlush(habit);
     }
@@ -268,7 +395,7 @@ public class HabitServiceTest {
         when(habitRepository.findHabitByName(habitName)).thenReturn(Optional.of(new Habit()));
         when(habitRepository.findHabitByName(updatedHabitName)).thenReturn(Optional.of(new Habit()));
 
-        assertThrows(HabitAlreadyExistsException.class, () -> habitService.updateHabit(habitName, updatedHabit));
+        assertThrows(HabitAlreadyExistsException.class, () -> habitService.updateHabit(habitName, updatedHabit, null));
 
         verify(habitRepository, never()).saveAndFlush(any(Habit.class));
     }
@@ -283,7 +410,7 @@ public class HabitServiceTest {
         when(habitMapper.toDTO(habit)).thenReturn(habitDto);
 
 
-        assertNotNull(habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch));
+        assertNotNull(habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch, null));
     }
 
     @Test
@@ -296,7 +423,7 @@ public class HabitServiceTest {
         when(habitRepository.findHabitByName(habitNameToUpdate)).thenReturn(Optional.of(habit));
         when(habitMapper.toDTO(habit)).thenReturn(habitDto);
 
-        HabitDTO resultHabitDTO = habitService.partialHabitUpdate(habitNameToUpdate, mergePatch);
+        HabitDTO resultHabitDTO = habitService.partialHabitUpdate(habitNameToUpdate, mergePatch, null);
 
         assertEquals(habitNameToUpdate, resultHabitDTO.name());
     }
@@ -308,8 +435,9 @@ public class HabitServiceTest {
         JsonMergePatch mergePatch = Json.createMergePatch(json);
 
         when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.of(habit));
+        when(habitMapper.toDTO(habit)).thenReturn(habitDto);
 
-        habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch);
+        habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch, null);
 
         verify(habitRepository).findHabitByName(TEST_HABIT_NAME);
     }
@@ -323,7 +451,7 @@ public class HabitServiceTest {
 
         when(habitRepository.findHabitByName(notPersistedHabitName)).thenReturn(Optional.empty());
 
-        assertThrows(HabitNotFoundException.class, () -> habitService.partialHabitUpdate(notPersistedHabitName, mergePatch));
+        assertThrows(HabitNotFoundException.class, () -> habitService.partialHabitUpdate(notPersistedHabitName, mergePatch, null));
     }
 
     @Test
@@ -333,16 +461,16 @@ public class HabitServiceTest {
         JsonObject fieldsToUpdate = Json.createObjectBuilder()
                                         .add("name", "New habit name")
                                         .add("frequency", String.valueOf(HabitFrequency.WEEKLY))
-                                        .add("startDate", String.valueOf(LocalDate.of(1990, Month.APRIL, 1)))
-                                        .add("endDate", String.valueOf(LocalDate.of(1991, Month.APRIL ,1)))
+                                        .add("startDate", String.valueOf(LocalDate.now().plusMonths(1)))
+                                        .add("endDate", String.valueOf(LocalDate.now().plusYears(1)))
                                         .add("reminder", false)
                                         .build();
         JsonMergePatch updatePatch = Json.createMergePatch(fieldsToUpdate);
         Habit updatedHabit = habitBuilder.withUUID(habit.getUuid())
                                          .withName("New habit name")
                                          .withFrequency(HabitFrequency.WEEKLY)
-                                         .withStartDate(LocalDate.of(1990, Month.APRIL, 1))
-                                         .withEndDate(LocalDate.of(1991, Month.APRIL, 1))
+                                         .withStartDate(LocalDate.now().plusMonths(1))
+                                         .withEndDate(LocalDate.now().plusYears(1))
                                          .withReminder(false)
                                          .buildHabit();
         HabitDTO updateHabitDTO = habitBuilder.buildHabitDto();
@@ -351,7 +479,7 @@ public class HabitServiceTest {
         when(mergePatchHelper.mergePatch(updatePatch, habit, Habit.class)).thenReturn(updatedHabit);
         when(habitMapper.toDTO(habit)).thenReturn(updateHabitDTO);
 
-        HabitDTO resultHabitDTO = habitService.partialHabitUpdate(habitNameToUpdate, updatePatch);
+        HabitDTO resultHabitDTO = habitService.partialHabitUpdate(habitNameToUpdate, updatePatch, null);
 
         assertAll(
                 () -> assertEquals(fieldsToUpdate.getString("name"),      resultHabitDTO.name()),
@@ -362,6 +490,54 @@ public class HabitServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Partial update should throw IllegalArgumentException and not flush if a patched field breaks a constraint of the habit")
+    void partialHabitUpdateWithInvalidFieldShouldThrowIllegalArgumentException() {
+        JsonMergePatch mergePatch = Json.createMergePatch(Json.createObjectBuilder().add("name", JsonValue.NULL).build());
+        HabitDTO patchedHabit = habitBuilder.withName(null).buildHabitDto();
+
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.of(habit));
+        when(habitMapper.toDTO(habit)).thenReturn(patchedHabit);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch, null));
+
+        assertEquals("Habit name cannot be blank", exception.getMessage());
+        verify(habitRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("Partial update should reject a start date placed after the end date but not the past start date of an unpatched habit")
+    void partialHabitUpdateShouldValidateOnlyPatchedFields() {
+        HabitDTO startedHabit = habitBuilder.withStartDate(LocalDate.now().minusMonths(1)).withEndDate(LocalDate.now().plusMonths(1)).buildHabitDto();
+        HabitDTO reversedHabit = habitBuilder.withStartDate(LocalDate.now().plusMonths(2)).withEndDate(LocalDate.now().plusMonths(1)).buildHabitDto();
+        JsonMergePatch reminderPatch = Json.createMergePatch(Json.createObjectBuilder().add("reminder", true).build());
+        JsonMergePatch startDatePatch = Json.createMergePatch(Json.createObjectBuilder().add("startDate", String.valueOf(LocalDate.now().plusMonths(2))).build());
+
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.of(habit));
+        when(habitMapper.toDTO(habit)).thenReturn(startedHabit, startedHabit, reversedHabit);
+
+        assertDoesNotThrow(() -> habitService.partialHabitUpdate(TEST_HABIT_NAME, reminderPatch, null));
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> habitService.partialHabitUpdate(TEST_HABIT_NAME, startDatePatch, null));
+        assertEquals("Start date of habit cannot be placed after its end date", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Partial update should throw HabitAlreadyExistsException if the habit is renamed to the name of another habit")
+    void partialHabitUpdateWithConflictingNameShouldThrowHabitAlreadyExistsException() {
+        JsonMergePatch mergePatch = Json.createMergePatch(Json.createObjectBuilder().add("name", "Taken name").build());
+
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.of(habit));
+        when(mergePatchHelper.mergePatch(mergePatch, habit, Habit.class)).thenAnswer(invocation -> {
+            habit.setName("Taken name");
+            return habit;
+        });
+        when(habitMapper.toDTO(habit)).thenReturn(habitDto);
+        when(habitRepository.existsByNameWithoutFlush("Taken name")).thenReturn(true);
+
+        assertThrows(HabitAlreadyExistsException.class, () -> habitService.partialHabitUpdate(TEST_HABIT_NAME, mergePatch, null));
+
+        verify(habitRepository, never()).flush();
+    }
 
     @Test
     @DisplayName("The deleteHabit() method should throw HabitNotFoundException with appropriate message if habit with provided habitName doesn't exist")
@@ -370,7 +546,7 @@ public class HabitServiceTest {
 
         when(habitRepository.findHabitByName(habitToDelete)).thenReturn(Optional.empty());
 
-        Exception exception = assertThrows(HabitNotFoundException.class, () -> habitService.deleteHabit(habitToDelete));
+        Exception exception = assertThrows(HabitNotFoundException.class, () -> habitService.deleteHabit(habitToDelete, null));
         assertEquals(HABIT_NOT_FOUND_EXCEPTION_MESSAGE, exception.getMessage());
 
         verify(habitRepository, never()).delete(any(Habit.class));
@@ -383,9 +559,127 @@ public class HabitServiceTest {
 
         when(habitRepository.findHabitByName(habitEntityToDelete.getName())).thenReturn(Optional.of(habitEntityToDelete));
 
-        assertDoesNotThrow(() -> habitService.deleteHabit(habitEntityToDelete.getName()));
+        assertDoesNotThrow(() -> habitService.deleteHabit(habitEntityToDelete.getName(), null));
 
         verify(habitRepository).delete(habitEntityToDelete);
         verify(habitRepository).flush();
     }
+
+    @Test
+    @DisplayName("The deleteHabits() method should publish one deleted event with the ids of the habits deleted in every chunk")
+    void deleteHabitsShouldPublishOneEventForAllChunks() {
+        HabitKeys habit_1 = new HabitKeys(UUID.randomUUID(), "Habit_1");
+        HabitKeys habit_2 = new HabitKeys(UUID.randomUUID(), "Habit_2");
+        HabitKeys habit_3 = new HabitKeys(UUID.randomUUID(), "Habit_3");
+
+        when(habitRepository.findKeysByNameIn(List.of("Habit_1", "Habit_2"))).thenReturn(List.of(habit_1, habit_2));
+        when(habitRepository.findKeysByNameIn(List.of("Habit_3"))).thenReturn(List.of(habit_3));
+
+        List<String> deletedNames = habitService.deleteHabits(List.of("Habit_1", "Habit_2", "Habit_3"));
+
+        assertEquals(List.of("Habit_1", "Habit_2", "Habit_3"), deletedNames);
+        verify(eventPublisher).publishEvent(new HabitDeletedEvent(List.of(habit_1.id(), habit_2.id(), habit_3.id())));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("The getHabitById() method should throw HabitNotFoundException if there is no habit with the given id")
+    void getHabitByIdShouldThrowHabitNotFoundException() {
+        UUID id = UUID.randomUUID();
+        when(habitRepository.findById(id)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(HabitNotFoundException.class, () -> habitService.getHabitById(id));
+        assertEquals("Habit with given id: " + id + " not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("The getHabitById() method should look the habit up by its primary key")
+    void getHabitByIdShouldUsePrimaryKey() {
+        when(habitRepository.findById(habit.getUuid())).thenReturn(Optional.of(habit));
+        when(habitMapper.toDTO(habit)).thenReturn(habitDto);
+
+        assertEquals(habitDto, habitService.getHabitById(habit.getUuid()));
+        verify(habitRepository, never()).findHabitByName(any());
+    }
+
+    @Test
+    @DisplayName("The updateHabitById() method should keep the name without conflict and evict the cached habit")
+    void updateHabitByIdShouldEvictCachedHabit() {
+        cacheManager.getCache(CacheConfiguration.HABITS_CACHE).put(habit.getName(), habitDto);
+        HabitDTO updatedHabit = habitBuilder.withName(habit.getName()).withFrequency(HabitFrequency.WEEKLY).buildHabitDto();
+        when(habitRepository.findById(habit.getUuid())).thenReturn(Optional.of(habit));
+
+        habitService.updateHabitById(habit.getUuid(), updatedHabit, null);
+
+        assertEquals(HabitFrequency.WEEKLY, habit.getFrequency());
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(habit.getName()));
+        verify(habitRepository, never()).findHabitByName(any());
+        verify(habitRepository).saveAndFlush(habit);
+    }
+
+    @Test
+    @DisplayName("The deleteHabitById() method should delete the habit found by id and evict it from the cache")
+    void deleteHabitByIdShouldDeleteAndEvict() {
+        cacheManager.getCache(CacheConfiguration.HABITS_CACHE).put(habit.getName(), habitDto);
+        when(habitRepository.findById(habit.getUuid())).thenReturn(Optional.of(habit));
+
+        habitService.deleteHabitById(habit.getUuid(), null);
+
+        verify(habitRepository).delete(habit);
+        assertNull(cacheManager.getCache(CacheConfiguration.HABITS_CACHE).get(habit.getName()));
+    }
+
+    @Test
+    @DisplayName("The updateHabitById() method should throw PreconditionFailedException if the expected version is stale")
+    void updateHabitByIdWithStaleVersionShouldThrowPreconditionFailedException() {
+        when(habitRepository.findById(habit.getUuid())).thenReturn(Optional.of(habit));
+
+        assertThrows(PreconditionFailedException.class, () -> habitService.updateHabitById(habit.getUuid(), habitDto, 3L));
+
+        verify(habitRepository, never()).saveAndFlush(any(Habit.class));
+    }
+
+    @Test
+    @DisplayName("The updateHabit() method should not create a habit if a version of the missing habit was expected")
+    void updateHabitWithVersionOfMissingHabitShouldThrowPreconditionFailedException() {
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.empty());
+
+        assertThrows(PreconditionFailedException.class, () -> habitService.updateHabit(TEST_HABIT_NAME, habitDto, 0L));
+
+        verify(habitRepository, never()).saveAndFlush(any(Habit.class));
+    }
+
+    @Test
+    @DisplayName("The updateHabit() method should not create a missing habit if any version was expected")
+    void updateHabitWithAnyVersionOfMissingHabitShouldThrowPreconditionFailedException() {
+        when(habitRepository.findHabitByName(TEST_HABIT_NAME)).thenReturn(Optional.empty());
+
+        assertThrows(PreconditionFailedException.class, () -> habitService.updateHabit(TEST_HABIT_NAME, habitDto, EntityVersions.ANY));
+
+        verify(habitRepository, never()).saveAndFlush(any(Habit.class));
+    }
+
+    @Test
+    @DisplayName("The updateHabit() method should update an existing habit of any version if any version was expected")
+    void updateHabitWithAnyVersionShouldUpdateExistingHabit() {
+        when(habitRepository.findHabitByName(habit.getName())).thenReturn(Optional.of(habit));
+
+        habitService.updateHabit(habit.getName(), habitDto, EntityVersions.ANY);
+
+        verify(habitRepository).saveAndFlush(habit);
+    }
+
+    @Test
+    @DisplayName("The deleteHabit() method should not delete the habit if the expected version is stale")
+    void deleteHabitWithStaleVersionShouldThrowPreconditionFailedException() {
+        when(habitRepository.findHabitByName(habit.getName())).thenReturn(Optional.of(habit));
+
+        assertThrows(PreconditionFailedException.class, () -> habitService.deleteHabit(habit.getName(), 3L));
+
+        verify(habitRepository, never()).delete(any(Habit.class));
+    }
+
+    private static Clock fixedClock(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
 }
@@ -1,10 +1,11 @@
 package io.github.ciamcioo.habit_builder.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.github.ciamcioo.habit_builder.exception.ProcessingException;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
 import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.util.HabitBuilder;
 import io.github.ciamcioo.habit_builder.util.UserBuilder;
 
 import jakarta.json.Json;
@@ -19,12 +20,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.Month;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 @SpringBootTest
 public class MergePatchHelperTest {
@@ -32,58 +32,127 @@ public class MergePatchHelperTest {
     // TESTED OBJECT
     MergePatchHelper mergePatchHelper;
 
-    ObjectMapper objectMapper;
-
     // HELPER OBJECTS
     User user;
-    String userJson = "{\"id\":\"0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3\",\"email\":\"fooBar@gmail.com\",\"username\":\"FooBar\",\"firstName\":\"Foo\",\"lastName\":\"Bar\",\"age\":21}";
+    Habit habit;
 
     UserBuilder userBuilder = UserBuilder.getInstance();
+    HabitBuilder habitBuilder = HabitBuilder.getInstance();
 
    @BeforeEach
-    void setup() throws JsonProcessingException {
-        objectMapper = mock(ObjectMapper.class);
-        mergePatchHelper = new MergePatchHelper(objectMapper);
+    void setup() {
+        mergePatchHelper = new MergePatchHelper(new ObjectMapper());
 
         userBuilder = userBuilder.withTestValues();
         user = userBuilder.withId(UUID.fromString("0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3"))
                           .buildUser();
 
-       when(objectMapper.writeValueAsString(user)).thenReturn(userJson);
+        habitBuilder = habitBuilder.withTestValues();
+        habit = habitBuilder.buildHabit();
     }
 
 
     @Test
     @DisplayName("Null value should not be returned by the mergePatch method")
-    void mergePatchReturnNotNullValue() throws JsonProcessingException {
-        User updatedUser = userBuilder.withAge(18)
-                                      .buildUser();
-        String updateUserJson = "{\"id\":\"0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3\",\"email\":\"fooBar@gmail.com\",\"username\":\"FooBar\",\"firstName\":\"Foo\",\"lastName\":\"Bar\",\"age\":18}";
+    void mergePatchReturnNotNullValue() {
         JsonObject agePatch = Json.createObjectBuilder()
                                    .add("age", 18)
                                    .build();
         JsonMergePatch mergePatch = Json.createMergePatch(agePatch);
 
-        when(objectMapper.writeValueAsString(any(JsonValue.class))).thenReturn(updateUserJson);
-        when(objectMapper.readValue(updateUserJson, User.class)).thenReturn(updatedUser);
-
         assertNotNull(mergePatchHelper.mergePatch(mergePatch, user, User.class));
     }
 
     @Test
-    @DisplayName("If exception occurs during patch update IllegalArgumentException should be thrown")
-    void mergePatchShouldThrowIllegalArgumentException() throws JsonProcessingException {
-        User testUser = userBuilder.buildUser();
-        String updateUserJson = "{\"id\":\"0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3\",\"email\":\"fooBar@gmail.com\",\"username\":\"FooBar\",\"firstName\":\"Foo\",\"lastName\":\"Bar\",\"age\":18}";
+    @DisplayName("The mergePatch method should apply changes directly on the target entity instead of creating a copy")
+    void mergePatchShouldUpdateTargetEntityInPlace() {
         JsonObject agePatch = Json.createObjectBuilder()
                                   .add("age", 18)
                                   .build();
+
+        User resultUser = mergePatchHelper.mergePatch(Json.createMergePatch(agePatch), user, User.class);
+
+        assertSame(user, resultUser);
+        assertEquals(18, user.getAge());
+        assertEquals("fooBar@gmail.com", user.getEmail());
+    }
+
+    @Test
+    @DisplayName("The mergePatch method should convert every patched value to the type of entity field")
+    void mergePatchShouldConvertValuesToFieldTypes() {
+        JsonObject fieldsToUpdate = Json.createObjectBuilder()
+                                        .add("name", "New habit name")
+                                        .add("frequency", String.valueOf(HabitFrequency.WEEKLY))
+                                        .add("startDate", String.valueOf(LocalDate.of(1990, Month.APRIL, 1)))
+                                        .add("endDate", String.valueOf(LocalDate.of(1991, Month.APRIL, 1)))
+                                        .add("reminder", false)
+                                        .build();
+
+        mergePatchHelper.mergePatch(Json.createMergePatch(fieldsToUpdate), habit, Habit.class);
+
+        assertAll(
+                () -> assertEquals("New habit name",                    habit.getName()),
+                () -> assertEquals(HabitFrequency.WEEKLY,               habit.getFrequency()),
+                () -> assertEquals(LocalDate.of(1990, Month.APRIL, 1),  habit.getStartDate()),
+                () -> assertEquals(LocalDate.of(1991, Month.APRIL, 1),  habit.getEndDate()),
+                () -> assertEquals(false,                               habit.getReminder())
+        );
+    }
+
+    @Test
+    @DisplayName("Null value in the patch should clear the nullable field of the entity")
+    void mergePatchWithNullValueShouldClearField() {
+        JsonObject endDatePatch = Json.createObjectBuilder()
+                                      .add("endDate", JsonValue.NULL)
+                                      .build();
+
+        mergePatchHelper.mergePatch(Json.createMergePatch(endDatePatch), habit, Habit.class);
+
+        assertNull(habit.getEndDate());
+    }
+
+    @Test
+    @DisplayName("Identifier and unknown fields should be ignored by the mergePatch method")
+    void mergePatchShouldIgnoreIdentifierAndUnknownFields() {
+        UUID habitUuid = habit.getUuid();
+        JsonObject patch = Json.createObjectBuilder()
+                               .add("uuid", UUID.randomUUID().toString())
+                               .add("unknownField", "value")
+                               .build();
+
+        mergePatchHelper.mergePatch(Json.createMergePatch(patch), habit, Habit.class);
+
+        assertEquals(habitUuid, habit.getUuid());
+    }
+
+    @Test
+    @DisplayName("If value in the patch doesn't match the field type IllegalArgumentException should be thrown")
+    void mergePatchShouldThrowIllegalArgumentException() {
+        JsonObject agePatch = Json.createObjectBuilder()
+                                  .add("age", "eighteen")
+                                  .build();
         JsonMergePatch mergePatch = Json.createMergePatch(agePatch);
 
-        when(objectMapper.writeValueAsString(any(JsonValue.class))).thenReturn(updateUserJson);
-        when(objectMapper.readValue(updateUserJson, User.class)).thenThrow(JsonProcessingException.class);
+        assertThrows(IllegalArgumentException.class,  () -> mergePatchHelper.mergePatch(mergePatch, user, User.class) );
+    }
+
+    @Test
+    @DisplayName("If enum value in the patch doesn't exist IllegalArgumentException should be thrown")
+    void mergePatchWithUnknownEnumValueShouldThrowIllegalArgumentException() {
+        JsonObject frequencyPatch = Json.createObjectBuilder()
+                                        .add("frequency", "HOURLY")
+                                        .build();
+        JsonMergePatch mergePatch = Json.createMergePatch(frequencyPatch);
+
+        assertThrows(IllegalArgumentException.class, () -> mergePatchHelper.mergePatch(mergePatch, habit, Habit.class));
+    }
 
-        assertThrows(IllegalArgumentException.class,  () -> mergePatchHelper.mergePatch(mergePatch, testUser, User.class) );
+    @Test
+    @DisplayName("If the patch is not a JSON object IllegalArgumentException should be thrown")
+    void mergePatchWithNonObjectPatchShouldThrowIllegalArgumentException() {
+        JsonMergePatch mergePatch = Json.createMergePatch(Json.createValue("value"));
+
+        assertThrows(IllegalArgumentException.class, () -> mergePatchHelper.mergePatch(mergePatch, habit, Habit.class));
     }
 
 
@@ -119,26 +188,4 @@ public class MergePatchHelperTest {
         assertInstanceOf(IllegalArgumentException.class, resultException.getCause());
         assertNotNull(resultException.getCause().getMessage());
     }
-
-    @Test
-    @DisplayName("If method convertTargetToString finishes without exception it should return not empty String value")
-    void convertObjectToStringShouldReturnString() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, JsonProcessingException {
-        Method convertTargetToString = MergePatchHelper.class.getDeclaredMethod("convertTargetToString", Object.class);
-        convertTargetToString.setAccessible(true);
-
-        assertEquals(userJson, (String) convertTargetToString.invoke(mergePatchHelper, user));
-    }
-
-    @Test
-    @DisplayName("If in method convertTargetToString occurs JsonProcessingException(), it should handle it and throw new ProcessingException with a message")
-    void convertObjectToStringShouldReturnMatchingStringStructForTarget() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, JsonProcessingException {
-        Method convertTargetToString = MergePatchHelper.class.getDeclaredMethod("convertTargetToString", Object.class);
-        convertTargetToString.setAccessible(true);
-
-        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("Processing failed") {});
-
-        Exception resultException = assertThrows(InvocationTargetException.class, () -> convertTargetToString.invoke(mergePatchHelper, new Object()));
-        assertInstanceOf(ProcessingException.class, resultException.getCause());
-        assertNotNull(resultException.getCause().getMessage());
-    }
 }
@@ -0,0 +1,116 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.StatsProperties;
+import io.github.ciamcioo.habit_builder.model.commons.AgeBucket;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.StatsDTO;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the stats aggregation against H2, the seed data of other tests is present so only the difference is compared
+@SpringBootTest
+public class StatsQueryTest {
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    // HELPER OBJECTS
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private final List<String> emails = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        emails.forEach(email -> userService.deleteUser(email, null));
+        emails.clear();
+    }
+
+    @Test
+    @DisplayName("Database aggregation queries should count the created users and habits in every group")
+    void databaseAggregationShouldCountCreatedUsersAndHabits() {
+        StatsService statsService = statsService(StatsProperties.Aggregation.DATABASE);
+        StatsDTO before = statsService.getStats();
+
+        createUsersWithHabits();
+        StatsDTO after = statsService.getStats();
+
+        assertAll(
+                () -> assertEquals(3, after.users() - before.users()),
+                () -> assertEquals(3, after.habits() - before.habits()),
+                () -> assertEquals(1, difference(before.usersByHabitCount(), after.usersByHabitCount(), 0L)),
+                () -> assertEquals(1, difference(before.usersByHabitCount(), after.usersByHabitCount(), 1L)),
+                () -> assertEquals(1, difference(before.usersByHabitCount(), after.usersByHabitCount(), 2L)),
+                () -> assertEquals(2, difference(before.habitsByFrequency(), after.habitsByFrequency(), HabitFrequency.DAILY)),
+                () -> assertEquals(1, difference(before.habitsByFrequency(), after.habitsByFrequency(), HabitFrequency.WEEKLY)),
+                () -> assertEquals(1, after.expiredHabits() - before.expiredHabits()),
+                () -> assertEquals(2, after.activeHabits() - before.activeHabits()),
+                () -> assertEquals(1, difference(before.usersByAgeBucket(), after.usersByAgeBucket(), AgeBucket.UNDER_18)),
+                () -> assertEquals(1, difference(before.usersByAgeBucket(), after.usersByAgeBucket(), AgeBucket.AGE_25_34)),
+                () -> assertEquals(1, difference(before.usersByAgeBucket(), after.usersByAgeBucket(), AgeBucket.UNKNOWN))
+        );
+    }
+
+    @Test
+    @DisplayName("Database aggregation queries should produce the same stats as the parallel aggregation of the snapshots")
+    void databaseAggregationShouldMatchParallelAggregation() {
+        createUsersWithHabits();
+
+        assertEquals(statsService(StatsProperties.Aggregation.PARALLEL).getStats(),
+                     statsService(StatsProperties.Aggregation.DATABASE).getStats());
+    }
+
+    // Ages 17, 30 and unknown owning 2, 1 and 0 habits, one of the habits has already ended
+    private void createUsersWithHabits() {
+        User minor   = createUser("minor@stats.test", "statsMinor", 17);
+        User adult   = createUser("adult@stats.test", "statsAdult", 30);
+        createUser("unknown@stats.test", "statsUnknown", null);
+
+        habitRepository.insertAll(List.of(
+                createHabit(minor, "statsMinor daily", HabitFrequency.DAILY, TODAY.plusMonths(1)),
+                createHabit(minor, "statsMinor ended", HabitFrequency.DAILY, TODAY.minusDays(1)),
+                createHabit(adult, "statsAdult weekly", HabitFrequency.WEEKLY, TODAY.plusMonths(1))
+        ));
+    }
+
+    private User createUser(String email, String username, Integer age) {
+        emails.add(email);
+        return userRepository.saveAndFlush(new User(email, username, "Foo", "Bar", age));
+    }
+
+    private Habit createHabit(User user, String name, HabitFrequency frequency, LocalDate endDate) {
+        Habit habit = new Habit(name, frequency, TODAY.minusMonths(1), endDate, false);
+        habit.setUser(user);
+        return habit;
+    }
+
+    private static <K> long difference(Map<K, Long> before, Map<K, Long> after, K key) {
+        return after.getOrDefault(key, 0L) - before.getOrDefault(key, 0L);
+    }
+
+    private StatsService statsService(StatsProperties.Aggregation aggregation) {
+        return new StatsManagementService(habitRepository, userRepository, new StatsProperties(aggregation, Duration.ZERO), CLOCK);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.StatsProperties;
+import io.github.ciamcioo.habit_builder.model.commons.AgeBucket;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.StatsDTO;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.GroupCount;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStatsRow;
+import io.github.ciamcioo.habit_builder.repository.projection.UserStatsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StatsServiceTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, Month.MARCH, 10);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    // MOCK SERVICE
+    HabitRepository habitRepository;
+    UserRepository userRepository;
+
+    // HELPER OBJECTS
+    UUID firstUserId  = UUID.randomUUID();
+    UUID secondUserId = UUID.randomUUID();
+    UUID thirdUserId  = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        habitRepository = mock(HabitRepository.class);
+        userRepository = mock(UserRepository.class);
+
+        // Three users aged 17, 30 and unknown owning 2, 1 and 0 habits, plus one habit without an owner
+        when(userRepository.countByAge()).thenReturn(List.of(
+                new GroupCount<>(17, 1),
+                new GroupCount<>(30, 1),
+                new GroupCount<>(null, 1)
+        ));
+        when(userRepository.countUsersByHabitCount()).thenReturn(List.of(
+                new GroupCount<>(2L, 1),
+                new GroupCount<>(1L, 1),
+                new GroupCount<>(0L, 1)
+        ));
+        when(habitRepository.countByFrequency()).thenReturn(List.of(
+                new GroupCount<>(HabitFrequency.DAILY, 3),
+                new GroupCount<>(HabitFrequency.WEEKLY, 1)
+        ));
+        when(habitRepository.countByEndDateBefore(TODAY)).thenReturn(1L);
+
+        when(userRepository.findStatsRows()).thenReturn(List.of(
+                new UserStatsRow(firstUserId, 17),
+                new UserStatsRow(secondUserId, 30),
+                new UserStatsRow(thirdUserId, null)
+        ));
+        when(habitRepository.findStatsRows()).thenReturn(List.of(
+                new HabitStatsRow(firstUserId, HabitFrequency.DAILY, null),
+                new HabitStatsRow(firstUserId, HabitFrequency.DAILY, TODAY.minusDays(1)),
+                new HabitStatsRow(secondUserId, HabitFrequency.WEEKLY, TODAY),
+                new HabitStatsRow(null, HabitFrequency.DAILY, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Database aggregation should combine grouped counts and fill missing groups with zeros")
+    void databaseAggregationShouldCombineGroupedCounts() {
+        StatsDTO stats = statsService(StatsProperties.Aggregation.DATABASE).getStats();
+
+        assertAll(
+                () -> assertEquals(3,                                       stats.users()),
+                () -> assertEquals(4,                                       stats.habits()),
+                () -> assertEquals(1.0,                                     stats.averageHabitsPerUser()),
+                () -> assertEquals(Map.of(0L, 1L, 1L, 1L, 2L, 1L),          stats.usersByHabitCount()),
+                () -> assertEquals(0L,                                      stats.habitsByFrequency().get(HabitFrequency.MONTHLY)),
+                () -> assertEquals(3,                                       stats.activeHabits()),
+                () -> assertEquals(1,                                       stats.expiredHabits()),
+                () -> assertEquals(1L,                                      stats.usersByAgeBucket().get(AgeBucket.UNDER_18)),
+                () -> assertEquals(1L,                                      stats.usersByAgeBucket().get(AgeBucket.AGE_25_34)),
+                () -> assertEquals(1L,                                      stats.usersByAgeBucket().get(AgeBucket.UNKNOWN)),
+                () -> assertEquals(0L,                                      stats.usersByAgeBucket().get(AgeBucket.AGE_65_PLUS))
+        );
+        verify(userRepository, never()).findStatsRows();
+        verify(habitRepository, never()).findStatsRows();
+    }
+
+    @Test
+    @DisplayName("Parallel aggregation over a snapshot should produce the same stats as the database aggregation")
+    void parallelAggregationShouldMatchDatabaseAggregation() {
+        StatsDTO databaseStats = statsService(StatsProperties.Aggregation.DATABASE).getStats();
+        StatsDTO parallelStats = statsService(StatsProperties.Aggregation.PARALLEL).getStats();
+
+        assertEquals(databaseStats, parallelStats);
+        verify(userRepository, times(1)).countUsersByHabitCount();
+    }
+
+    @Test
+    @DisplayName("Age should be assigned to the bucket with the highest lower bound not above it")
+    void ageShouldBeAssignedToMatchingBucket() {
+        assertAll(
+                () -> assertEquals(AgeBucket.UNDER_18,      AgeBucket.of(0)),
+                () -> assertEquals(AgeBucket.AGE_18_24,     AgeBucket.of(18)),
+                () -> assertEquals(AgeBucket.AGE_50_64,     AgeBucket.of(64)),
+                () -> assertEquals(AgeBucket.AGE_65_PLUS,   AgeBucket.of(90)),
+                () -> assertEquals(AgeBucket.UNKNOWN,       AgeBucket.of(null))
+        );
+    }
+
+    private StatsService statsService(StatsProperties.Aggregation aggregation) {
+        return new StatsManagementService(habitRepository, userRepository, new StatsProperties(aggregation, Duration.ofSeconds(30)), CLOCK);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.config.StreakProperties;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.entity.HabitCheckInId;
+import io.github.ciamcioo.habit_builder.repository.HabitCheckInRepository;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitStreak;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StreakServiceTest {
+    // CONSTANT
+    public static final UUID      TEST_HABIT_ID         = UUID.fromString("0ecfcfad-c6ec-4530-b2e4-14dd4b4586f3");
+    public static final LocalDate MONDAY                = LocalDate.of(2025, Month.MARCH, 10);
+    public static final int       TEST_REBUILD_BATCH    = 2;
+
+    // TESTED SERVICE
+    private StreakService streakService;
+
+    // MOCK SERVICE
+    private HabitRepository        habitRepository;
+    private HabitCheckInRepository checkInRepository;
+
+    @BeforeEach
+    void setup() {
+        habitRepository = mock(HabitRepository.class);
+        checkInRepository = mock(HabitCheckInRepository.class);
+
+        streakService = new StreakManagementService(habitRepository, checkInRepository, new StreakProperties(TEST_REBUILD_BATCH));
+    }
+
+    @Test
+    @DisplayName("Check-ins in consecutive days should extend the streak of a daily habit and a gap should reset it")
+    void dailyStreakShouldCountConsecutiveDays() {
+        Streaks.State state = Streaks.fromHistory(HabitFrequency.DAILY, List.of(
+                MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2), MONDAY.plusDays(5)
+        ));
+
+        assertEquals(new Streaks.State(1, 3, MONDAY.plusDays(5)), state);
+    }
+
+    @Test
+    @DisplayName("Several check-ins in one week should count once for a weekly habit")
+    void weeklyStreakShouldCountWeeks() {
+        Streaks.State state = Streaks.fromHistory(HabitFrequency.WEEKLY, List.of(
+                MONDAY, MONDAY.plusDays(3), MONDAY.plusDays(13), MONDAY.plusDays(15)
+        ));
+
+        assertEquals(new Streaks.State(3, 3, MONDAY.plusWeeks(2)), state);
+    }
+
+    @Test
+    @DisplayName("Skipping a month should reset the streak of a monthly habit")
+    void monthlyStreakShouldResetAfterSkippedMonth() {
+        Streaks.State state = Streaks.fromHistory(HabitFrequency.MONTHLY, List.of(
+                MONDAY, MONDAY.plusMonths(1), MONDAY.plusMonths(3)
+        ));
+
+        assertEquals(new Streaks.State(1, 2, MONDAY.plusMonths(3).withDayOfMonth(1)), state);
+    }
+
+    @Test
+    @DisplayName("Check-in before the last counted period cannot be applied incrementally")
+    void backFilledCheckInShouldNotAdvanceStreak() {
+        Streaks.State state = new Streaks.State(2, 2, MONDAY);
+
+        assertNull(Streaks.advance(state, HabitFrequency.DAILY, MONDAY.minusDays(3)));
+    }
+
+    @Test
+    @DisplayName("Stored streak should be reported as current only until the following period passes")
+    void storedStreakShouldExpireAfterMissedPeriod() {
+        assertEquals(4, Streaks.currentStreak(HabitFrequency.DAILY, 4, MONDAY, MONDAY.plusDays(1)));
+        assertEquals(0, Streaks.currentStreak(HabitFrequency.DAILY, 4, MONDAY, MONDAY.plusDays(2)));
+        assertEquals(4, Streaks.currentStreak(HabitFrequency.WEEKLY, 4, MONDAY, MONDAY.plusDays(13)));
+    }
+
+    @Test
+    @DisplayName("New check-ins should be applied to the stored streak without reading the check-in history")
+    void recordCheckInsShouldUpdateStreakIncrementally() {
+        when(habitRepository.findStreakForUpdate(TEST_HABIT_ID)).thenReturn(Optional.of(new HabitStreak(TEST_HABIT_ID, HabitFrequency.DAILY, 2, 5, MONDAY)));
+        when(habitRepository.compareAndSetStreak(any(), anyInt(), any(), anyInt(), anyInt(), any())).thenReturn(1);
+
+        streakService.recordCheckIns(TEST_HABIT_ID, List.of(MONDAY.plusDays(2), MONDAY.plusDays(1)));
+
+        verify(habitRepository).compareAndSetStreak(TEST_HABIT_ID, 2, MONDAY, 4, 5, MONDAY.plusDays(2));
+        verifyNoInteractions(checkInRepository);
+    }
+
+    @Test
+    @DisplayName("Back-filled check-ins should rebuild the streak from the check-in history")
+    void recordBackFilledCheckInsShouldRebuildStreak() {
+        when(habitRepository.findStreakForUpdate(TEST_HABIT_ID)).thenReturn(Optional.of(new HabitStreak(TEST_HABIT_ID, HabitFrequency.DAILY, 1, 1, MONDAY)));
+        when(checkInRepository.findAllDatesForShare(TEST_HABIT_ID)).thenReturn(List.of(MONDAY.minusDays(1), MONDAY));
+
+        streakService.recordCheckIns(TEST_HABIT_ID, List.of(MONDAY.minusDays(1)));
+
+        verify(habitRepository, never()).compareAndSetStreak(any(), anyInt(), any(), anyInt(), anyInt(), any());
+        verify(habitRepository).setStreak(TEST_HABIT_ID, 2, 2, MONDAY);
+    }
+
+    @Test
+    @DisplayName("Streak should be rebuilt when concurrent check-ins keep changing it")
+    void lostUpdateRacesShouldRebuildStreak() {
+        when(habitRepository.findStreakForUpdate(TEST_HABIT_ID)).thenReturn(Optional.of(new HabitStreak(TEST_HABIT_ID, HabitFrequency.DAILY, 1, 1, MONDAY)));
+        when(habitRepository.compareAndSetStreak(any(), anyInt(), any(), anyInt(), anyInt(), any())).thenReturn(0);
+        when(checkInRepository.findAllDatesForShare(TEST_HABIT_ID)).thenReturn(List.of());
+
+        streakService.recordCheckIns(TEST_HABIT_ID, List.of(MONDAY.plusDays(1)));
+
+        verify(habitRepository, times(3)).compareAndSetStreak(any(), anyInt(), any(), anyInt(), anyInt(), any());
+        verify(habitRepository).setStreak(TEST_HABIT_ID, 0, 0, null);
+    }
+
+    @Test
+    @DisplayName("Rebuild of all streaks should page through habits and update only the incorrect ones")
+    void rebuildAllStreaksShouldUpdateOnlyIncorrectStreaks() {
+        UUID secondHabitId = UUID.fromString("1ecfcfad-c6ec-4530-b2e4-14dd4b4586f3");
+        UUID thirdHabitId = UUID.fromString("2ecfcfad-c6ec-4530-b2e4-14dd4b4586f3");
+
+        when(habitRepository.findStreaksAfter(any(), eq(Limit.of(TEST_REBUILD_BATCH)))).thenReturn(
+                List.of(new HabitStreak(TEST_HABIT_ID, HabitFrequency.DAILY, 1, 1, MONDAY),
+                        new HabitStreak(secondHabitId, HabitFrequency.DAILY, 0, 0, null)),
+                List.of(new HabitStreak(thirdHabitId, HabitFrequency.DAILY, 3, 3, MONDAY))
+        );
+        when(checkInRepository.findAllByHabitIds(List.of(TEST_HABIT_ID, secondHabitId))).thenReturn(List.of(
+                new HabitCheckInId(TEST_HABIT_ID, MONDAY)
+        ));
+        when(checkInRepository.findAllByHabitIds(List.of(thirdHabitId))).thenReturn(List.of());
+
+        assertEquals(1, streakService.rebuildAllStreaks());
+
+        verify(habitRepository).findStreaksAfter(secondHabitId, Limit.of(TEST_REBUILD_BATCH));
+        verify(habitRepository).setStreak(thirdHabitId, 0, 0, null);
+        verify(habitRepository, times(1)).setStreak(any(), anyInt(), anyInt(), any());
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.ciamcioo.habit_builder.service;
+
+import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class UserHabitsQueryTest {
+    public static final String FEW_HABITS_EMAIL  = "few.habits@query.test";
+    public static final String MANY_HABITS_EMAIL = "many.habits@query.test";
+
+    // TESTED SERVICE
+    @Autowired
+    private HabitService habitService;
+
+    // HELPER OBJECTS
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private HabitRepository habitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        users.add(createUserWithHabits(FEW_HABITS_EMAIL, "fewHabits", 1));
+        users.add(createUserWithHabits(MANY_HABITS_EMAIL, "manyHabits", 25));
+    }
+
+    @AfterEach
+    void cleanup() {
+        users.forEach(user -> userService.deleteUser(user.getEmail(), null));
+        users.clear();
+    }
+
+    @Test
+    @DisplayName("Listing user habits should run a single statement without loading entities no matter how many habits the user has")
+    void userHabitsPageShouldRunConstantNumberOfStatements() {
+        long fewHabitsStatements  = countStatements(() -> habitService.getUserHabitsPage(FEW_HABITS_EMAIL, null, 50));
+        long manyHabitsStatements = countStatements(() -> habitService.getUserHabitsPage(MANY_HABITS_EMAIL, null, 50));
+
+        assertAll(
+                () -> assertEquals(1, fewHabitsStatements),
+                () -> assertEquals(fewHabitsStatements, manyHabitsStatements),
+                () -> assertEquals(0, statistics.getEntityFetchCount()),
+                () -> assertEquals(0, statistics.getEntityLoadCount())
+        );
+    }
+
+    @Test
+    @DisplayName("User habits should be paged by name with a cursor pointing at the last habit of the page")
+    void userHabitsShouldBePagedByName() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            CursorPageDTO<HabitDTO> page = habitService.getUserHabitsPage(MANY_HABITS_EMAIL, cursor, 10);
+            page.content().forEach(habit -> names.add(habit.name()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(25, names.size());
+        assertEquals(names.stream().sorted().toList(), names);
+    }
+
+    @Test
+    @DisplayName("Listing habits of an unknown user should throw UserNotFoundException")
+    void unknownUserShouldThrowUserNotFoundException() {
+        assertThrows(UserNotFoundException.class, () -> habitService.getUserHabitsPage("missing@query.test", null, 10));
+    }
+
+    private long countStatements(Runnable query) {
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User createUserWithHabits(String email, String username, int habitCount) {
+        User user = userRepository.saveAndFlush(new User(email, username, "Foo", "Bar", 30));
+
+        habitRepository.saveAllAndFlush(
+                IntStream.range(0, habitCount)
+                         .mapToObj(index -> {
+                             Habit habit = new Habit(String.format("%s habit %02d", username, index), HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusMonths(1), false);
+                             habit.setUser(user);
+                             return habit;
+                         })
+                         .toList()
+        );
+        return user;
+    }
+}
@@ -1,9 +1,18 @@
 package io.github.ciamcioo.habit_builder.service;
 
+import io.github.ciamcioo.habit_builder.config.ImportProperties;
+import io.github.ciamcioo.habit_builder.config.PaginationProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ImportStatus;
+import io.github.ciamcioo.habit_builder.model.dto.CursorPageDTO;
+import io.github.ciamcioo.habit_builder.model.dto.ImportReportDTO;
 import io.github.ciamcioo.habit_builder.model.dto.UserDTO;
+import io.github.ciamcioo.habit_builder.model.dto.UserSearchCriteria;
 import io.github.ciamcioo.habit_builder.model.entity.User;
+import io.github.ciamcioo.habit_builder.model.event.UserDeletedEvent;
 import io.github.ciamcioo.habit_builder.repository.HabitRepository;
 import io.github.ciamcioo.habit_builder.repository.UserRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.UserKeys;
+import io.github.ciamcioo.habit_builder.exception.PreconditionFailedException;
 import io.github.ciamcioo.habit_builder.exception.UserAlreadyExistsException;
 import io.github.ciamcioo.habit_builder.exception.UserNotFoundException;
 import io.github.ciamcioo.habit_builder.service.mapper.UserMapper;
@@ -12,10 +21,13 @@ import io.github.ciamcioo.habit_builder.util.UserBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +38,8 @@ import static org.mockito.Mockito.*;
 public class UserServiceTest {
     public static final String TEST_EMAIL_ADDRESS = "test@gmail.com";
     public static final String TEST_USERNAME      = "FooBarUsername";
+    public static final int    TEST_PAGE_SIZE     = 2;
+    public static final int    TEST_CHUNK_SIZE    = 2;
 
     // TESTED SERVICE
     private static UserService    userService;
@@ -34,6 +48,8 @@ public class UserServiceTest {
     private static UserMapper      userMapper;
     private static UserRepository  userRepository;
     private static HabitRepository habitRepository;
+    private static HabitService    habitService;
+    private static ApplicationEventPublisher eventPublisher;
 
     // HELPER OBJECT
     private static UserBuilder userBuilder = UserBuilder.getInstance();
@@ -46,46 +62,52 @@ public class UserServiceTest {
        userMapper = mock(UserMapper.class);
        userRepository = mock(UserRepository.class);
        habitRepository = mock(HabitRepository.class);
-       userService = new UserManagementService(userRepository, userMapper);
+       habitService = mock(HabitService.class);
+       eventPublisher = mock(ApplicationEventPublisher.class);
+       userService = new UserManagementService(userRepository, habitService, userMapper, new PaginationProperties(TEST_PAGE_SIZE, 10), new ImportProperties(TEST_CHUNK_SIZE), eventPublisher);
 
        userBuilder = userBuilder.withTestValues();
        user = userBuilder.withEmail(TEST_EMAIL_ADDRESS).buildUser();
        userDTO = userBuilder.buildUserDTO();
    }
 
-
-   // GET ALL USERS TEST
-
+   // GET USERS PAGE TEST
 
    @Test
-   @DisplayName("Method getAllUsers() should not return null")
-   void getAllUsersReturnNotNullValue() {
-       assertNotNull(userService.getAllUsers());
-   }
+   @DisplayName("Method getUsersPage() should fetch one user more than page size to detect next page")
+   void getUsersPageShouldFetchOneAdditionalUser() {
+       UserSearchCriteria criteria = UserSearchCriteria.none();
 
-   @Test
-   @DisplayName("Method getAllUsers() should return empty List object")
-   void getAllUsersReturnEmptyList() {
-       when(userRepository.findAll()).thenReturn(List.of());
+       when(userRepository.searchUsers(criteria, null, TEST_PAGE_SIZE + 1)).thenReturn(List.of());
+
+       CursorPageDTO<UserDTO> page = userService.getUsersPage(criteria, null, null);
 
-       assertTrue(userService.getAllUsers().isEmpty());
+       assertTrue(page.content().isEmpty());
+       assertNull(page.nextCursor());
 
-       verify(userRepository).findAll();
+       verify(userRepository).searchUsers(criteria, null, TEST_PAGE_SIZE + 1);
    }
 
    @Test
-   @DisplayName("Method getAllUsers() should return List containing UserDTO object")
-   void getAllUsersReturnUserDTOList() {
-       List<User> users = List.of(
-          userBuilder.buildUser(),
-          userBuilder.buildUser()
-       );
+   @DisplayName("Method getUsersPage() should return next cursor equal to the email of the last user if more users are available")
+   void getUsersPageShouldReturnNextCursor() {
+       UserSearchCriteria criteria = new UserSearchCriteria("Foo", 18, 30, "gmail.com");
+       UserDTO user_1 = userBuilder.withEmail("a@gmail.com").buildUserDTO();
+       UserDTO user_2 = userBuilder.withEmail("b@gmail.com").buildUserDTO();
+       UserDTO user_3 = userBuilder.withEmail("c@gmail.com").buildUserDTO();
 
-       when(userRepository.findAll()).thenReturn(users);
+       when(userRepository.searchUsers(criteria, "0@gmail.com", TEST_PAGE_SIZE + 1)).thenReturn(List.of(user_1, user_2, user_3));
 
-       assertFalse(userService.getAllUsers().isEmpty());
+       CursorPageDTO<UserDTO> page = userService.getUsersPage(criteria, "0@gmail.com", TEST_PAGE_SIZE);
 
-       verify(userRepository).findAll();
+       assertEquals(TEST_PAGE_SIZE, page.content().size());
+       assertEquals("b@gmail.com", page.nextCursor());
+   }
+
+   @Test
+   @DisplayName("Search criteria with minimal age greater than maximal age should throw IllegalArgumentException")
+   void searchCriteriaWithInvalidAgeRangeShouldThrowIllegalArgumentException() {
+       assertThrows(IllegalArgumentException.class, () -> new UserSearchCriteria(null, 30, 18, null));
    }
 
    // GET SINGLE USER TEST
@@ -197,7 +219,7 @@ public class UserServiceTest {
 
        assertEquals(userDTOs.size(), userService.addUsers(userDTOs).size());
 
-       verify(userRepository).saveAllAndFlush(anyList());
+       verify(userRepository).insertAll(anyList());
    }
 
    @Test
@@ -228,7 +250,7 @@ public class UserServiceTest {
            assertTrue(usernames.contains(userDTO.username()));
        }
 
-       verify(userRepository).saveAllAndFlush(anyList());
+       verify(userRepository).insertAll(anyList());
    }
 
    @Test
@@ -245,34 +267,81 @@ public class UserServiceTest {
         when(userMapper.toEntity(any(UserDTO.class))).thenReturn(user);
         when(habitRepository.findHabitByName(TEST_EMAIL_ADDRESS)).thenReturn(Optional.empty());
 
-        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Collection<User>> captor = ArgumentCaptor.forClass(Collection.class);
         int resultSize = userService.addUsers(notUniqueUserDTOs).size();
 
         // Reverse order of assert and verify is needed for proper call of capture()
-        verify(userRepository).saveAllAndFlush(captor.capture());
+        verify(userRepository).insertAll(captor.capture());
 
         assertEquals(expectedSize, resultSize);
         assertEquals(expectedSize, captor.getValue().size());
    }
 
+   @Test
+   @DisplayName("Method importUsers() should resolve existing emails and usernames with one query per chunk")
+   void importUsersShouldQueryExistingKeysOncePerChunk() {
+       List<UserDTO> userDTOs = List.of(
+               userBuilder.withEmail("first@gmail.com").withUsername("first").buildUserDTO(),
+               userBuilder.withEmail("second@gmail.com").withUsername("second").buildUserDTO(),
+               userBuilder.withEmail("third@gmail.com").withUsername("third").buildUserDTO()
+       );
+
+       userService.importUsers(userDTOs);
+
+       verify(userRepository, times(2)).findExistingKeys(anyCollection(), anyCollection());
+       verify(userRepository, times(2)).insertAll(anyList());
+       verify(userRepository, never()).findUserByEmail(anyString());
+   }
+
+   @Test
+   @DisplayName("Method importUsers() should report skipped emails together with the reason")
+   void importUsersShouldReportSkippedEmails() {
+       List<UserDTO> userDTOs = List.of(
+               userBuilder.withEmail("existing@gmail.com").withUsername("existing").buildUserDTO(),
+               userBuilder.withEmail("new@gmail.com").withUsername("taken").buildUserDTO(),
+               userBuilder.withEmail("existing@gmail.com").withUsername("other").buildUserDTO(),
+               userBuilder.withEmail(TEST_EMAIL_ADDRESS).withUsername(TEST_USERNAME).buildUserDTO()
+       );
+
+       when(userRepository.findExistingKeys(anyCollection(), anyCollection())).thenReturn(List.of(
+               new UserKeys("existing@gmail.com", "existing"),
+               new UserKeys("taken@gmail.com", "taken")
+       ));
+
+       ImportReportDTO report = userService.importUsers(userDTOs);
+
+       assertAll(
+               () -> assertEquals(1, report.created()),
+               () -> assertEquals(3, report.skipped()),
+               () -> assertEquals(ImportStatus.ALREADY_EXISTS, report.results().get(0).status()),
+               () -> assertEquals(ImportStatus.USERNAME_TAKEN, report.results().get(1).status()),
+               () -> assertEquals(ImportStatus.DUPLICATE,      report.results().get(2).status()),
+               () -> assertEquals(ImportStatus.CREATED,        report.results().get(3).status()),
+               () -> assertEquals(TEST_EMAIL_ADDRESS,          report.results().get(3).key())
+       );
+   }
+
    // UPDATE USER TESTS
 
    @Test
    @DisplayName("Method updateUser() should not return null value")
    void updateUserShouldNotReturnNullValue() {
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+       when(userRepository.saveAndFlush(user)).thenReturn(user);
        when(userMapper.toDTO(user)).thenReturn(userDTO);
 
-       assertNotNull(userService.updateUser(TEST_EMAIL_ADDRESS, userBuilder.buildUserDTO()));
+       assertNotNull(userService.updateUser(TEST_EMAIL_ADDRESS, userBuilder.buildUserDTO(), null));
    }
 
    @Test
    @DisplayName("Method updateUser() should return UserDTO that matches updated object")
    void updateUserShouldReturnUserDTOObjectWhichWillMuchUpdateObject() {
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+       when(userRepository.saveAndFlush(user)).thenReturn(user);
        when(userMapper.toDTO(user)).thenReturn(userDTO);
 
-       assertEquals(userDTO, userService.updateUser(TEST_EMAIL_ADDRESS, userDTO));
+       assertEquals(userDTO, userService.updateUser(TEST_EMAIL_ADDRESS, userDTO, null));
+       verify(userRepository).saveAndFlush(user);
    }
 
    @Test
@@ -284,7 +353,7 @@ public class UserServiceTest {
        when(userRepository.findUserByEmail(tmpEmailAddress)).thenReturn(Optional.of(new User()));
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(new User()));
 
-       assertThrows(UserAlreadyExistsException.class, () -> userService.updateUser(tmpEmailAddress, userToUpdate));
+       assertThrows(UserAlreadyExistsException.class, () -> userService.updateUser(tmpEmailAddress, userToUpdate, null));
    }
 
    @Test
@@ -292,7 +361,17 @@ public class UserServiceTest {
    void updateUserShouldThrowUserNotFoundException() {
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.empty());
 
-       assertThrows(UserNotFoundException.class, () -> userService.updateUser(TEST_EMAIL_ADDRESS, userDTO));
+       assertThrows(UserNotFoundException.class, () -> userService.updateUser(TEST_EMAIL_ADDRESS, userDTO, null));
+
+       verify(userRepository, never()).saveAndFlush(any(User.class));
+   }
+
+   @Test
+   @DisplayName("Method updateUser() should throw PreconditionFailedException if the expected version is stale")
+   void updateUserWithStaleVersionShouldThrowPreconditionFailedException() {
+       when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+
+       assertThrows(PreconditionFailedException.class, () -> userService.updateUser(TEST_EMAIL_ADDRESS, userDTO, 3L));
 
        verify(userRepository, never()).saveAndFlush(any(User.class));
    }
@@ -304,10 +383,11 @@ public class UserServiceTest {
    void deleteUserShouldThrowUserNotFoundException() {
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.empty());
 
-       assertThrows(UserNotFoundException.class, () -> userService.deleteUser(TEST_EMAIL_ADDRESS));
+       assertThrows(UserNotFoundException.class, () -> userService.deleteUser(TEST_EMAIL_ADDRESS, null));
 
        verify(userRepository, never()).delete(any(User.class));
        verify(userRepository, never()).flush();
+       verify(habitService, never()).deleteUserHabits(any());
    }
 
    @Test
@@ -315,9 +395,33 @@ public class UserServiceTest {
    void deleterUserShouldCallUserRepositoryDeleteAndFlushMethod() {
        when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
 
-       userService.deleteUser(TEST_EMAIL_ADDRESS);
+       userService.deleteUser(TEST_EMAIL_ADDRESS, null);
 
        verify(userRepository).delete(user);
        verify(userRepository).flush();
    }
+
+   @Test
+   @DisplayName("Method deleteUser() should delete the habits of the user before the user itself")
+   void deleteUserShouldDeleteUserHabitsFirst() {
+       when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+
+       userService.deleteUser(TEST_EMAIL_ADDRESS, null);
+
+       InOrder inOrder = inOrder(habitService, userRepository);
+       inOrder.verify(habitService).deleteUserHabits(user.getId());
+       inOrder.verify(userRepository).delete(user);
+   }
+
+   @Test
+   @DisplayName("Method deleteUser() should publish UserDeletedEvent after the user is deleted")
+   void deleteUserShouldPublishUserDeletedEvent() {
+       when(userRepository.findUserByEmail(TEST_EMAIL_ADDRESS)).thenReturn(Optional.of(user));
+
+       userService.deleteUser(TEST_EMAIL_ADDRESS, null);
+
+       InOrder inOrder = inOrder(userRepository, eventPublisher);
+       inOrder.verify(userRepository).flush();
+       inOrder.verify(eventPublisher).publishEvent(new UserDeletedEvent(TEST_EMAIL_ADDRESS));
+   }
 }
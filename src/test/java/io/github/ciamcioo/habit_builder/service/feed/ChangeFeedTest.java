@@ -0,0 +1,212 @@
+package io.github.ciamcioo.habit_builder.service.feed;
+
+import io.github.ciamcioo.habit_builder.config.ChangeFeedProperties;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
+import io.github.ciamcioo.habit_builder.model.event.UserDeletedEvent;
+import io.github.ciamcioo.habit_builder.service.HabitService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ChangeFeedTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    // TESTED SERVICE
+    @Autowired
+    private HabitService habitService;
+
+    // HELPER OBJECTS
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @AfterEach
+    void tearDown() {
+        httpClient.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Created, updated and deleted habit should be pushed to the subscriber in order")
+    void habitChangesShouldBePushedInOrder() throws Exception {
+        try (EventStream stream = subscribe(null)) {
+            HabitDTO habit = new HabitDTO("Change feed habit", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), false);
+
+            habitService.addHabit(habit);
+            String habitId = habitService.getHabitByName(habit.name()).id().toString();
+            habitService.updateHabit(habit.name(), new HabitDTO(habit.name(), HabitFrequency.WEEKLY, habit.startDate(), habit.endDate(), true), null);
+            habitService.deleteHabit(habit.name(), null);
+
+            List<String> events = List.of(stream.next().data(), stream.next().data(), stream.next().data());
+
+            assertAll(
+                    () -> assertEquals("{\"resource\":\"HABIT\",\"type\":\"CREATED\",\"keys\":[\"" + habitId + "\"]}", events.get(0)),
+                    () -> assertEquals("{\"resource\":\"HABIT\",\"type\":\"UPDATED\",\"keys\":[\"" + habitId + "\"]}", events.get(1)),
+                    () -> assertEquals("{\"resource\":\"HABIT\",\"type\":\"DELETED\",\"keys\":[\"" + habitId + "\"]}", events.get(2))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Subscriber reconnecting with Last-Event-ID should receive only the changes it missed")
+    void reconnectingSubscriberShouldResumeAfterLastEventId() throws Exception {
+        HabitDTO firstHabit = new HabitDTO("Resumed feed habit 1", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), false);
+        HabitDTO secondHabit = new HabitDTO("Resumed feed habit 2", HabitFrequency.DAILY, LocalDate.now(), LocalDate.now().plusYears(1), false);
+
+        SseEvent firstEvent;
+        try (EventStream stream = subscribe(null)) {
+            habitService.addHabit(firstHabit);
+            firstEvent = stream.next();
+        }
+        habitService.addHabit(secondHabit);
+        String firstHabitId = habitService.getHabitByName(firstHabit.name()).id().toString();
+        String secondHabitId = habitService.getHabitByName(secondHabit.name()).id().toString();
+        habitService.deleteHabits(List.of(firstHabit.name(), secondHabit.name()));
+
+        try (EventStream stream = subscribe(firstEvent.id())) {
+            SseEvent created = stream.next();
+            SseEvent deleted = stream.next();
+
+            assertAll(
+                    () -> assertTrue(created.data().contains("\"type\":\"CREATED\""), created.data()),
+                    () -> assertTrue(created.data().contains("\"keys\":[\"" + secondHabitId + "\"]"), created.data()),
+                    () -> assertTrue(deleted.data().contains("\"type\":\"DELETED\""), deleted.data()),
+                    () -> assertTrue(deleted.data().contains(firstHabitId) && deleted.data().contains(secondHabitId), deleted.data()),
+                    () -> assertNotEquals(firstEvent.id(), created.id())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Subscriber reconnecting with an unknown Last-Event-ID should be told to reload the current state")
+    void unknownLastEventIdShouldResetSubscriber() throws Exception {
+        try (EventStream stream = subscribe("previous-run-42")) {
+            SseEvent event = stream.next();
+
+            assertEquals(ChangeFeed.RESET_EVENT_NAME, event.name());
+            assertNotNull(event.id());
+        }
+    }
+
+    @Test
+    @DisplayName("Subscriber not draining its buffer should be disconnected without blocking the publisher")
+    void slowSubscriberShouldBeDisconnected() {
+        // Senders never run, so nothing leaves the subscriber's buffer
+        ChangeFeed changeFeed = new ChangeFeed(new ChangeFeedProperties(10, 2, Duration.ofMinutes(1)), Clock.systemUTC(), task -> { });
+
+        changeFeed.subscribe(null);
+        changeFeed.onUserDeleted(new UserDeletedEvent("first@feed.test"));
+        changeFeed.onUserDeleted(new UserDeletedEvent("second@feed.test"));
+        assertEquals(1, changeFeed.subscriberCount());
+
+        changeFeed.onUserDeleted(new UserDeletedEvent("third@feed.test"));
+        assertEquals(0, changeFeed.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Bulk delete of more habits than the subscriber buffer and the history should be pushed as one event")
+    void bulkDeleteShouldNotDisconnectSubscriber() {
+        ChangeFeed changeFeed = new ChangeFeed(new ChangeFeedProperties(2, 2, Duration.ofMinutes(1)), Clock.systemUTC(), task -> { });
+        List<UUID> habitIds = Stream.generate(UUID::randomUUID).limit(10).toList();
+
+        changeFeed.subscribe(null);
+        changeFeed.onUserDeleted(new UserDeletedEvent("first@feed.test"));
+        changeFeed.onHabitDeleted(new HabitDeletedEvent(habitIds));
+
+        assertEquals(1, changeFeed.subscriberCount());
+    }
+
+    private EventStream subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/changes"))
+                                                 .header("Accept", "text/event-stream")
+                                                 .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+
+        HttpResponse<Stream<String>> response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                                                          .get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+
+        return new EventStream(response.body());
+    }
+
+    private record SseEvent(String id, String name, String data) {
+
+    }
+
+    // Parses the event stream on a virtual thread, so the test can wait for events with a timeout
+    private static final class EventStream implements AutoCloseable {
+        private final Stream<String> lines;
+        private final BlockingQueue<SseEvent> events = new LinkedBlockingQueue<>();
+
+        private EventStream(Stream<String> lines) {
+            this.lines = lines;
+            Thread.ofVirtual().start(this::read);
+        }
+
+        private void read() {
+            List<String> fields = new ArrayList<>();
+
+            try {
+                lines.forEach(line -> {
+                    if (!line.isEmpty()) {
+                        fields.add(line);
+                        return;
+                    }
+
+                    // Comment lines keep the connection open and carry no data
+                    String data = field(fields, "data:");
+                    if (data != null) {
+                        events.add(new SseEvent(field(fields, "id:"), field(fields, "event:"), data));
+                    }
+                    fields.clear();
+                });
+            } catch (RuntimeException e) {
+                // Stream closed by the test
+            }
+        }
+
+        private static String field(List<String> fields, String prefix) {
+            return fields.stream()
+                         .filter(line -> line.startsWith(prefix))
+                         .map(line -> line.substring(prefix.length()).trim())
+                         .findFirst()
+                         .orElse(null);
+        }
+
+        SseEvent next() throws InterruptedException {
+            SseEvent event = events.poll(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            assertNotNull(event, "No event received in time");
+            return event;
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+}
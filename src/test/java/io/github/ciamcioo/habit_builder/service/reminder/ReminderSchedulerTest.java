@@ -0,0 +1,175 @@
+package io.github.ciamcioo.habit_builder.service.reminder;
+
+import io.github.ciamcioo.habit_builder.config.ReminderProperties;
+import io.github.ciamcioo.habit_builder.model.commons.ChangeType;
+import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
+import io.github.ciamcioo.habit_builder.model.event.HabitChangedEvent;
+import io.github.ciamcioo.habit_builder.model.event.HabitDeletedEvent;
+import io.github.ciamcioo.habit_builder.repository.HabitRepository;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitReminder;
+import io.github.ciamcioo.habit_builder.util.InMemoryReminderSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class ReminderSchedulerTest {
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalTime TIME_OF_DAY = LocalTime.of(9, 0);
+    private static final LocalDate TODAY = LocalDate.of(2025, Month.MARCH, 10);
+
+    // TESTED SERVICE
+    ReminderScheduler reminderScheduler;
+
+    // MOCK SERVICE
+    HabitRepository habitRepository;
+    Clock clock;
+
+    // HELPER OBJECTS
+    InMemoryReminderSink reminderSink;
+    HabitReminder dailyHabit;
+    HabitReminder weeklyHabit;
+
+    @BeforeEach
+    void setup() {
+        habitRepository = mock(HabitRepository.class);
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZONE);
+        setTime(TODAY.atTime(8, 0));
+
+        reminderSink = new InMemoryReminderSink();
+        reminderScheduler = new ReminderScheduler(habitRepository, reminderSink, new ReminderProperties(true, TIME_OF_DAY, 1), clock);
+
+        dailyHabit = new HabitReminder(UUID.randomUUID(), "Daily habit", HabitFrequency.DAILY, TODAY.minusDays(3), null);
+        weeklyHabit = new HabitReminder(UUID.randomUUID(), "Weekly habit", HabitFrequency.WEEKLY, TODAY.minusDays(3), null);
+    }
+
+    @Test
+    @DisplayName("Daily reminder should fire today if the time of day has not passed yet, otherwise tomorrow")
+    void dailyReminderShouldFireOnTheNextTimeOfDay() {
+        Instant beforeTimeOfDay = TODAY.atTime(8, 0).atZone(ZONE).toInstant();
+        Instant afterTimeOfDay = TODAY.atTime(10, 0).atZone(ZONE).toInstant();
+
+        assertAll(
+                () -> assertEquals(Optional.of(fireAt(TODAY)),              ReminderSchedule.nextFireTime(dailyHabit, TIME_OF_DAY, ZONE, beforeTimeOfDay)),
+                () -> assertEquals(Optional.of(fireAt(TODAY.plusDays(1))),  ReminderSchedule.nextFireTime(dailyHabit, TIME_OF_DAY, ZONE, afterTimeOfDay))
+        );
+    }
+
+    @Test
+    @DisplayName("Weekly and monthly reminders should fire on the weekday and day of month of the start date")
+    void weeklyAndMonthlyRemindersShouldFollowStartDate() {
+        HabitReminder monthlyHabit = new HabitReminder(UUID.randomUUID(), "Monthly habit", HabitFrequency.MONTHLY, LocalDate.of(2025, Month.JANUARY, 31), null);
+        Instant now = TODAY.atTime(8, 0).atZone(ZONE).toInstant();
+
+        assertAll(
+                () -> assertEquals(Optional.of(fireAt(TODAY.plusDays(4))),              ReminderSchedule.nextFireTime(weeklyHabit, TIME_OF_DAY, ZONE, now)),
+                () -> assertEquals(Optional.of(fireAt(LocalDate.of(2025, Month.MARCH, 31))), ReminderSchedule.nextFireTime(monthlyHabit, TIME_OF_DAY, ZONE, now))
+        );
+    }
+
+    @Test
+    @DisplayName("Reminder should not fire before the start date nor after the end date")
+    void reminderShouldRespectHabitPeriod() {
+        HabitReminder futureHabit = new HabitReminder(UUID.randomUUID(), "Future habit", HabitFrequency.DAILY, TODAY.plusDays(5), null);
+        HabitReminder endedHabit = new HabitReminder(UUID.randomUUID(), "Ended habit", HabitFrequency.WEEKLY, TODAY.minusDays(3), TODAY.plusDays(2));
+        Instant now = TODAY.atTime(8, 0).atZone(ZONE).toInstant();
+
+        assertAll(
+                () -> assertEquals(Optional.of(fireAt(TODAY.plusDays(5))),  ReminderSchedule.nextFireTime(futureHabit, TIME_OF_DAY, ZONE, now)),
+                () -> assertEquals(Optional.empty(),                        ReminderSchedule.nextFireTime(endedHabit, TIME_OF_DAY, ZONE, now))
+        );
+    }
+
+    @Test
+    @DisplayName("Reminders loaded on startup should be dispatched in batches once due and rescheduled")
+    void dueRemindersShouldBeDispatchedInBatches() {
+        loadReminders(dailyHabit, weeklyHabit);
+        HabitReminder tomorrowHabit = new HabitReminder(UUID.randomUUID(), "Tomorrow habit", HabitFrequency.DAILY, TODAY.plusDays(1), null);
+        when(habitRepository.findRemindersByIds(anyCollection())).thenReturn(List.of(dailyHabit, tomorrowHabit));
+        reminderScheduler.onHabitChanged(new HabitChangedEvent(List.of(tomorrowHabit.id()), ChangeType.UPDATED));
+
+        setTime(TODAY.atTime(9, 0));
+        reminderScheduler.dispatchDueReminders();
+
+        assertAll(
+                () -> assertEquals(1,                   reminderSink.getBatches().size()),
+                () -> assertEquals(dailyHabit.id(),     reminderSink.getReminders().getFirst().habitId()),
+                () -> assertEquals(fireAt(TODAY),       reminderSink.getReminders().getFirst().fireAt()),
+                () -> assertEquals(3,                   reminderScheduler.pendingReminders())
+        );
+
+        setTime(TODAY.plusDays(1).atTime(9, 0));
+        reminderScheduler.dispatchDueReminders();
+
+        assertAll(
+                () -> assertEquals(3, reminderSink.getBatches().size()),
+                () -> assertTrue(reminderSink.getBatches().stream().allMatch(batch -> batch.size() == 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Reminder of a deleted habit should not be dispatched")
+    void deletedHabitReminderShouldNotBeDispatched() {
+        loadReminders(dailyHabit);
+
+        reminderScheduler.onHabitDeleted(new HabitDeletedEvent(List.of(dailyHabit.id())));
+        setTime(TODAY.atTime(9, 0));
+        reminderScheduler.dispatchDueReminders();
+
+        assertAll(
+                () -> assertTrue(reminderSink.getReminders().isEmpty()),
+                () -> assertEquals(0, reminderScheduler.pendingReminders())
+        );
+        verify(habitRepository, never()).findRemindersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Due reminder of a habit removed without an event should be dropped when the habit is no longer found")
+    void dueReminderOfMissingHabitShouldBeDropped() {
+        loadReminders(dailyHabit);
+        when(habitRepository.findRemindersByIds(anyCollection())).thenReturn(List.of());
+
+        setTime(TODAY.atTime(9, 0));
+        reminderScheduler.dispatchDueReminders();
+
+        assertAll(
+                () -> assertTrue(reminderSink.getReminders().isEmpty()),
+                () -> assertEquals(0, reminderScheduler.pendingReminders())
+        );
+    }
+
+    @Test
+    @DisplayName("Habit changed to have no reminder should have its pending reminder cancelled")
+    void changedHabitWithoutReminderShouldBeCancelled() {
+        loadReminders(dailyHabit, weeklyHabit);
+        when(habitRepository.findRemindersByIds(anyCollection())).thenReturn(List.of());
+
+        reminderScheduler.onHabitChanged(new HabitChangedEvent(List.of(dailyHabit.id()), ChangeType.UPDATED));
+
+        assertEquals(1, reminderScheduler.pendingReminders());
+    }
+
+    private void loadReminders(HabitReminder... reminders) {
+        when(habitRepository.streamActiveReminders(any())).thenReturn(Stream.of(reminders));
+        reminderScheduler.loadReminders();
+    }
+
+    private void setTime(LocalDateTime dateTime) {
+        when(clock.instant()).thenReturn(dateTime.atZone(ZONE).toInstant());
+    }
+
+    private static Instant fireAt(LocalDate date) {
+        return date.atTime(TIME_OF_DAY).atZone(ZONE).toInstant();
+    }
+}
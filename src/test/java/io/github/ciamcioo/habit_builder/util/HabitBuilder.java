@@ -3,6 +3,7 @@ package io.github.ciamcioo.habit_builder.util;
 import io.github.ciamcioo.habit_builder.model.commons.HabitFrequency;
 import io.github.ciamcioo.habit_builder.model.dto.HabitDTO;
 import io.github.ciamcioo.habit_builder.model.entity.Habit;
+import io.github.ciamcioo.habit_builder.repository.projection.HabitView;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -80,4 +81,18 @@ public class HabitBuilder {
                          reminder
         );
     }
+
+    public HabitView buildHabitView() {
+        return new HabitView(uuid,
+                             name,
+                             frequency,
+                             startDate,
+                             endDate,
+                             reminder,
+                             0,
+                             0,
+                             null,
+                             0L
+        );
+    }
 }
@@ -0,0 +1,27 @@
+package io.github.ciamcioo.habit_builder.util;
+
+import io.github.ciamcioo.habit_builder.service.reminder.Reminder;
+import io.github.ciamcioo.habit_builder.service.reminder.ReminderSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryReminderSink implements ReminderSink {
+    private final List<List<Reminder>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void dispatch(List<Reminder> reminders) {
+        batches.add(List.copyOf(reminders));
+    }
+
+    public List<List<Reminder>> getBatches() {
+        return List.copyOf(batches);
+    }
+
+    public List<Reminder> getReminders() {
+        List<Reminder> reminders = new ArrayList<>();
+        batches.forEach(reminders::addAll);
+        return reminders;
+    }
+}